@@ -0,0 +1,107 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPAllocations.java                                                        */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * Informs the bytes allocated by the current thread, used by the benchmarks to measure the allocations of each word.
+ * The method is in com.sun.management (module jdk.management), which is not in every JVM, so it is searched by its name once
+ * and the benchmarks work without it.
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public final class RSLPAllocations {
+
+	/** Method getThreadAllocatedBytes(long) of com.sun.management.ThreadMXBean, or null if the JVM does not inform the allocations */
+	private static final Method ALLOCATED_BYTES = findAllocatedBytesMethod();
+
+	private RSLPAllocations() {
+	}
+
+	/**
+	 * @return The method, or null if the JVM does not have it or does not measure the allocations
+	 */
+	private static Method findAllocatedBytesMethod() {
+
+		try {
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+			if(type.isInstance(bean)
+					&& Boolean.TRUE.equals(type.getMethod("isThreadAllocatedMemorySupported").invoke(bean))
+					&& Boolean.TRUE.equals(type.getMethod("isThreadAllocatedMemoryEnabled").invoke(bean))) {
+				return type.getMethod("getThreadAllocatedBytes", long.class);
+			}
+		} catch(ReflectiveOperationException e) {
+			//the allocations are not informed
+		} catch(LinkageError e) {
+			//the management modules are not in the JVM
+		}
+
+		return null;
+
+	}
+
+	/**
+	 * @return TRUE if the JVM informs the bytes allocated by each thread
+	 */
+	public static boolean isSupported() {
+		return ALLOCATED_BYTES != null;
+	}
+
+	/**
+	 * @return Bytes allocated by the current thread since it started, or -1 if the JVM does not inform it
+	 */
+	public static long getThreadAllocatedBytes() {
+
+		if(ALLOCATED_BYTES == null) {
+			return -1;
+		}
+
+		try {
+			return (Long) ALLOCATED_BYTES.invoke(ManagementFactory.getThreadMXBean(), Thread.currentThread().getId());
+		} catch(ReflectiveOperationException e) {
+			return -1;
+		}
+
+	}
+
+}
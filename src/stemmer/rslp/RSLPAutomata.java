@@ -51,14 +51,53 @@ public class RSLPAutomata {
 	/** Constant to inform that IS to remove accents from the processed word */
 	public static final boolean REMOVE_ACCENTS = false;
 	
-	/** Informs if  some suffix was remove after noun reduction or verb reduction */
-	private boolean suffixRemoved = false;
-	
 	/** Constant used to stop the searching on the given word */
 	private static final int STOP = -1;
 	
+	/** Holds the word while the steps are applied in {@link #applyOutcome(CharSequence)} */
+	private final RSLPWordBuffer word = new RSLPWordBuffer();
+	
+	/** Counts the comparisons made by {@link #apply(String, boolean)}, null when the counting is disabled */
+	private RSLPCounters counters = null;
+	
+	/** Records the time of the steps of a sample of the words processed by {@link #apply(String, boolean)} */
+	private RSLPStepTimer timer = RSLPStepTimer.getShared();
+	
+	/**
+	 * Enables or disables the counting of the comparisons made by {@link #apply(String, boolean)}
+	 * 
+	 * @param counters Where the comparisons of each word are counted, or null to disable the counting
+	 */
+	public void setCounters(RSLPCounters counters) {
+		this.counters = counters;
+	}
+	
+	/**
+	 * @return Where the comparisons are counted, or null if the counting is disabled
+	 */
+	public RSLPCounters getCounters() {
+		return counters;
+	}
+	
 	/**
-	 * Applies the stemming process using automatas
+	 * Changes where {@link #apply(String, boolean)} records the time of the steps of the sampled words
+	 * 
+	 * @param timer Timer of the steps (the shared one, see {@link RSLPStepTimer#getShared()}, is used by default), or null to never time the steps
+	 */
+	public void setTimer(RSLPStepTimer timer) {
+		this.timer = timer;
+	}
+	
+	/**
+	 * @return Where the time of the steps is recorded, or null if the steps are never timed
+	 */
+	public RSLPStepTimer getTimer() {
+		return timer;
+	}
+	
+	/**
+	 * Applies the stemming process using automatas. It keeps no state between words, so the same instance can be used by many
+	 * threads while the counting is disabled.
 	 * 
 	 * @param in Word to be processed
 	 * @param accents Receives one of the class constant to execute or not the remove accents step
@@ -66,47 +105,353 @@ public class RSLPAutomata {
 	 */
 	public String apply(String in, boolean accents) {
 		
+		//tokens that no step can change (empty, too short, numbers, punctuation) do not enter the steps
+		if(RSLPStepFilter.isStemmable(in) == false){
+			if(counters != null){
+				counters.endWord();
+			}
+			return accents == KEEP_ACCENTS ? in : removeAccents(in);
+		}
+		
+		//for a sample of the words, the time since the previous timed step is recorded after each step executed (see RSLPStepTimer)
+		RSLPStepTimer timer = this.timer;
+		boolean timed = timer != null && timer.sample();
+		//while the events are enabled, every word is timed to find the slow ones (see RSLPEvents)
+		boolean watched = RSLPEvents.isEnabled();
+		//while there is an active registry of metrics, every word is timed and the rules applied are counted (see RSLPMetrics)
+		RSLPMetrics metrics = RSLPMetrics.getActive();
+		long start = timed || watched || metrics != null ? System.nanoTime() : 0;
+		long mark = start;
+		String word = in;
+		long outcome;
+		
+		//each step is executed only if the word is long enough and ends in a character that ends some suffix of the step (see RSLPStepFilter)
+		
 		// if the word ends in 's', execute the plural reduction step
-		if(in.charAt(in.length() - 1) == 's'){
-			in = pluralReduction(in);
+		if(RSLPStepFilter.canApply(RSLPOutcome.PLURAL_REDUCTION, in)){
+			outcome = pluralReductionOutcome(watch(RSLPOutcome.PLURAL_REDUCTION, in));
+			in = RSLPOutcome.apply(in, outcome);
+			if(metrics != null) metrics.ruleApplied(outcome);
+			if(timed) mark = timer.record(RSLPOutcome.PLURAL_REDUCTION, mark);
 		}
 		
 		// if the word ends in one of the feminine letters (a or ), execute the feminine reduction step
-		if(in.charAt(in.length() - 1) == 'a' || in.charAt(in.length() - 1) == ''){
-			in = feminineReduction(in);
+		if(RSLPStepFilter.canApply(RSLPOutcome.FEMININE_REDUCTION, in)){
+			outcome = feminineReductionOutcome(watch(RSLPOutcome.FEMININE_REDUCTION, in));
+			in = RSLPOutcome.apply(in, outcome);
+			if(metrics != null) metrics.ruleApplied(outcome);
+			if(timed) mark = timer.record(RSLPOutcome.FEMININE_REDUCTION, mark);
 		}
 		
 		//execute the degree (augmentative and diminutive) reduction step
-		in = degreeReduction(in);
+		if(RSLPStepFilter.canApply(RSLPOutcome.DEGREE_REDUCTION, in)){
+			outcome = degreeReductionOutcome(watch(RSLPOutcome.DEGREE_REDUCTION, in));
+			in = RSLPOutcome.apply(in, outcome);
+			if(metrics != null) metrics.ruleApplied(outcome);
+			if(timed) mark = timer.record(RSLPOutcome.DEGREE_REDUCTION, mark);
+		}
 		
 		//execute the adverb reduction step
-		in = adverbReduction(in);
+		if(RSLPStepFilter.canApply(RSLPOutcome.ADVERB_REDUCTION, in)){
+			outcome = adverbReductionOutcome(watch(RSLPOutcome.ADVERB_REDUCTION, in));
+			in = RSLPOutcome.apply(in, outcome);
+			if(metrics != null) metrics.ruleApplied(outcome);
+			if(timed) mark = timer.record(RSLPOutcome.ADVERB_REDUCTION, mark);
+		}
 		
-		//execute the noun reduction step
-		in = nounReduction(in);
+		//execute the noun reduction step (the outcome is kept in a local variable, so the same instance can be used by many threads)
+		outcome = RSLPOutcome.UNCHANGED;
+		if(RSLPStepFilter.canApply(RSLPOutcome.NOUN_REDUCTION, in)){
+			outcome = nounReductionOutcome(watch(RSLPOutcome.NOUN_REDUCTION, in));
+			in = RSLPOutcome.apply(in, outcome);
+			if(metrics != null) metrics.ruleApplied(outcome);
+			if(timed) mark = timer.record(RSLPOutcome.NOUN_REDUCTION, mark);
+		}
 		
 		//if none of the noun reduction rules was applied, then execute verb reduction step
-		if(suffixRemoved == false){
+		if(outcome == RSLPOutcome.UNCHANGED){
 			
-			in = verbReduction(in);
+			if(RSLPStepFilter.canApply(RSLPOutcome.VERB_REDUCTION, in)){
+				outcome = verbReductionOutcome(watch(RSLPOutcome.VERB_REDUCTION, in));
+				in = RSLPOutcome.apply(in, outcome);
+				if(metrics != null) metrics.ruleApplied(outcome);
+				if(timed) mark = timer.record(RSLPOutcome.VERB_REDUCTION, mark);
+			}
 			
 			//if none of the verb reduction rules was applied, then execute vowel remove step
-			if(suffixRemoved == false){
-				in = removeVowel(in);
+			if(outcome == RSLPOutcome.UNCHANGED && RSLPStepFilter.canApply(RSLPOutcome.VOWEL_REMOVE, in)){
+				outcome = removeVowelOutcome(watch(RSLPOutcome.VOWEL_REMOVE, in));
+				in = RSLPOutcome.apply(in, outcome);
+				if(metrics != null) metrics.ruleApplied(outcome);
+				if(timed) mark = timer.record(RSLPOutcome.VOWEL_REMOVE, mark);
 			}
 			
 		}
 		
-		//clean the flag
-		suffixRemoved = false;
+		if(counters != null){
+			counters.endWord();
+		}
 		
 		//remove (or not) the accents based on the flag given
+		if(accents == REMOVE_ACCENTS){
+			in = removeAccents(in);
+			if(timed) mark = timer.record(RSLPStepTimer.REMOVE_ACCENTS, mark);
+		}
+		
+		if(timed || watched || metrics != null){
+			long elapsed = System.nanoTime() - start;
+			if(timed) timer.add(RSLPStepTimer.WHOLE_WORD, elapsed);
+			if(watched) RSLPEvents.wordStemmed(word, in, elapsed);
+			if(metrics != null) metrics.wordStemmed(RSLPMetrics.AUTOMATA, word, elapsed);
+		}
+		
+		return in;
+		
+	}
+	
+	/**
+	 * Applies the stemming process using automatas (keeping the accents) without creating a new String.
+	 * The result describes the whole process as a single edit of the given word.
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made in the word (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied.
+	 * The step and rule informed are the ones of the last reduction applied.
+	 */
+	public long applyOutcome(CharSequence in) {
+		
+		word.set(in);
+		
+		long outcome = reduce();
+		if(outcome == RSLPOutcome.UNCHANGED){
+			return RSLPOutcome.UNCHANGED;
+		}
+		
+		//the characters after the first cut are always the beginning of one of the replacements
+		int cut = RSLPOutcome.getCutPosition(outcome);
+		int replacement = RSLPOutcome.findReplacement(word, cut);
+		if(replacement < 0){
+			throw new IllegalStateException("No replacement for the end of the stem '" + word + "' after the position " + cut);
+		}
+		
+		return RSLPOutcome.of(RSLPOutcome.getStep(outcome), RSLPOutcome.getRuleIndex(outcome), cut, replacement);
+		
+	}
+	
+	/**
+	 * Applies the stemming process using automatas (keeping the accents) in place: the stem replaces the word in the given array,
+	 * without creating any object
+	 * 
+	 * @param buffer Array with the word. It must have one position after the word, because a step can attach one character more
+	 * than it removes before the next step removes it.
+	 * @param offset Position of the array where the word starts
+	 * @param length Length of the word
+	 * @return Length of the stem, which starts at the same position of the word
+	 */
+	public int stem(char[] buffer, int offset, int length) {
+		
+		word.wrap(buffer, offset, length);
+		
+		try{
+			reduce();
+			return word.length();
+		}finally{
+			word.release();
+		}
+		
+	}
+	
+	/**
+	 * Same as {@link #stem(char[], int, int)}, starting at the given step, for words that no previous step can change
+	 * 
+	 * @param buffer Array with the word. It must have one position after the word.
+	 * @param offset Position of the array where the word starts
+	 * @param length Length of the word
+	 * @param firstStep One of the step constants of {@link RSLPOutcome}, given by {@link RSLPStepFilter#getFirstStep(char)} for the last character of the word
+	 * @return Length of the stem, which starts at the same position of the word, or -1 if none of the reductions was applied
+	 */
+	int stem(char[] buffer, int offset, int length, int firstStep) {
+		
+		word.wrap(buffer, offset, length);
+		
+		try{
+			return reduce(firstStep) == RSLPOutcome.UNCHANGED ? -1 : word.length();
+		}finally{
+			word.release();
+		}
+		
+	}
+	
+	/**
+	 * Same as {@link #stem(char[], int, int, int)}, reading the word through the given traced word, which records the characters
+	 * and the exception lookups that decided the stem
+	 * 
+	 * @param buffer Array with the word. It must have one position after the word.
+	 * @param offset Position of the array where the word starts
+	 * @param length Length of the word
+	 * @param firstStep One of the step constants of {@link RSLPOutcome}, given by {@link RSLPStepFilter#getFirstStep(char)} for the last character of the word
+	 * @param traced Receives the trace of the word
+	 * @return Length of the stem, which starts at the same position of the word, or -1 if none of the reductions was applied
+	 */
+	int trace(char[] buffer, int offset, int length, int firstStep, RSLPTracedWord traced) {
+		
+		word.wrap(buffer, offset, length);
+		
+		try{
+			return reduce(traced.watch(word), firstStep) == RSLPOutcome.UNCHANGED ? -1 : word.length();
+		}finally{
+			word.release();
+		}
+		
+	}
+	
+	/**
+	 * Applies the stemming process to a word that can have uppercase letters or decomposed accents. The word is converted (see
+	 * {@link RSLPNormalizer}) while it is copied to the buffer of the steps, so no String is created for the lowercase word.
+	 * 
+	 * @param in Word to be processed
+	 * @param accents Receives one of the class constant to execute or not the remove accents step
+	 * @param compose Receives one of the constants of {@link RSLPNormalizer} to compose or not the combining accents
+	 * @return Processed word, in lowercase. It is the original word if it was already lowercase and none of the reductions was applied.
+	 */
+	public String applyNormalized(String in, boolean accents, boolean compose) {
+		
+		boolean changed = word.setNormalized(in, compose);
+		
+		String stem = in;
+		if(reduce() != RSLPOutcome.UNCHANGED || changed){
+			stem = word.toString();
+		}
+		
 		if(accents == KEEP_ACCENTS){
-			return in;
+			return stem;
 		}else{
-			return removeAccents(in);
+			return removeAccents(stem);
+		}
+		
+	}
+	
+	/**
+	 * Converts the word to lowercase (see {@link RSLPNormalizer}) and applies the stemming process (keeping the accents), both in place
+	 * 
+	 * @param buffer Array with the word. It must have one position after the word.
+	 * @param offset Position of the array where the word starts
+	 * @param length Length of the word
+	 * @param compose Receives one of the constants of {@link RSLPNormalizer} to compose or not the combining accents
+	 * @return Length of the stem, which starts at the same position of the word
+	 */
+	public int stemNormalized(char[] buffer, int offset, int length, boolean compose) {
+		return stem(buffer, offset, RSLPNormalizer.normalize(buffer, offset, length, compose));
+	}
+	
+	/**
+	 * Applies the steps to the word held by {@link #word}, editing it in place
+	 * 
+	 * @return Outcome with the step and rule of the last reduction applied and the first position changed (without the replacement),
+	 * or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	private long reduce() {
+		return reduce(RSLPOutcome.PLURAL_REDUCTION);
+	}
+	
+	/**
+	 * Applies the steps, from the given one, to the word held by {@link #word}, editing it in place
+	 * 
+	 * @param first One of the step constants of {@link RSLPOutcome}. The steps before it are not executed.
+	 * @return The same of {@link #reduce()}
+	 */
+	private long reduce(int first) {
+		return reduce(word, first);
+	}
+	
+	/**
+	 * Applies the steps, from the given one, reading the word through the given sequence and editing {@link #word} in place
+	 * 
+	 * @param in The word held by {@link #word}, or a view of it (see {@link RSLPTracedWord})
+	 * @param first One of the step constants of {@link RSLPOutcome}. The steps before it are not executed.
+	 * @return The same of {@link #reduce()}
+	 */
+	private long reduce(CharSequence in, int first) {
+		
+		if(RSLPStepFilter.isStemmable(in) == false){
+			return RSLPOutcome.UNCHANGED;
+		}
+		
+		int cut = in.length();
+		long last = RSLPOutcome.UNCHANGED;
+		long outcome = RSLPOutcome.UNCHANGED;
+		
+		// if the word ends in 's', execute the plural reduction step
+		if(first <= RSLPOutcome.PLURAL_REDUCTION && RSLPStepFilter.canApply(RSLPOutcome.PLURAL_REDUCTION, in)){
+			outcome = pluralReductionOutcome(in);
+			if(outcome != RSLPOutcome.UNCHANGED){
+				cut = Math.min(cut, RSLPOutcome.getCutPosition(outcome));
+				word.apply(outcome);
+				last = outcome;
+			}
+		}
+		
+		// if the word ends in one of the feminine letters (a or ), execute the feminine reduction step
+		if(first <= RSLPOutcome.FEMININE_REDUCTION && RSLPStepFilter.canApply(RSLPOutcome.FEMININE_REDUCTION, in)){
+			outcome = feminineReductionOutcome(in);
+			if(outcome != RSLPOutcome.UNCHANGED){
+				cut = Math.min(cut, RSLPOutcome.getCutPosition(outcome));
+				word.apply(outcome);
+				last = outcome;
+			}
+		}
+		
+		//execute the degree (augmentative and diminutive) reduction step
+		if(first <= RSLPOutcome.DEGREE_REDUCTION && RSLPStepFilter.canApply(RSLPOutcome.DEGREE_REDUCTION, in)){
+			outcome = degreeReductionOutcome(in);
+			if(outcome != RSLPOutcome.UNCHANGED){
+				cut = Math.min(cut, RSLPOutcome.getCutPosition(outcome));
+				word.apply(outcome);
+				last = outcome;
+			}
+		}
+		
+		//execute the adverb reduction step
+		if(first <= RSLPOutcome.ADVERB_REDUCTION && RSLPStepFilter.canApply(RSLPOutcome.ADVERB_REDUCTION, in)){
+			outcome = adverbReductionOutcome(in);
+			if(outcome != RSLPOutcome.UNCHANGED){
+				cut = Math.min(cut, RSLPOutcome.getCutPosition(outcome));
+				word.apply(outcome);
+				last = outcome;
+			}
+		}
+		
+		//execute the noun reduction step
+		outcome = RSLPOutcome.UNCHANGED;
+		if(first <= RSLPOutcome.NOUN_REDUCTION && RSLPStepFilter.canApply(RSLPOutcome.NOUN_REDUCTION, in)){
+			outcome = nounReductionOutcome(in);
 		}
 		
+		//if none of the noun reduction rules was applied, then execute verb reduction step
+		if(outcome == RSLPOutcome.UNCHANGED){
+			
+			if(first <= RSLPOutcome.VERB_REDUCTION && RSLPStepFilter.canApply(RSLPOutcome.VERB_REDUCTION, in)){
+				outcome = verbReductionOutcome(in);
+			}
+			
+			//if none of the verb reduction rules was applied, then execute vowel remove step
+			if(outcome == RSLPOutcome.UNCHANGED && RSLPStepFilter.canApply(RSLPOutcome.VOWEL_REMOVE, in)){
+				outcome = removeVowelOutcome(in);
+			}
+			
+		}
+		
+		if(outcome != RSLPOutcome.UNCHANGED){
+			cut = Math.min(cut, RSLPOutcome.getCutPosition(outcome));
+			word.apply(outcome);
+			last = outcome;
+		}
+		
+		if(last == RSLPOutcome.UNCHANGED){
+			return RSLPOutcome.UNCHANGED;
+		}
+		
+		return RSLPOutcome.of(RSLPOutcome.getStep(last), RSLPOutcome.getRuleIndex(last), cut, RSLPOutcome.REPLACEMENT_EMPTY);
+		
 	}
 	
 	/**
@@ -116,10 +461,21 @@ public class RSLPAutomata {
 	 * @return Processed word. It can be the original word if none of the reductions was applied or a modificated word
 	 */
 	public String pluralReduction(String in) {
+		return RSLPOutcome.apply(in, pluralReductionOutcome(watch(RSLPOutcome.PLURAL_REDUCTION, in)));
+	}
+	
+	/**
+	 * Executes the plural reduction step for the given word without creating a new String
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made by the step (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	public long pluralReductionOutcome(CharSequence in) {
 		
 		int position = in.length() - 2;
 		int state = 2;
 		boolean accept = false;
+		long outcome = RSLPOutcome.UNCHANGED;
 		
 		while(position >= 0) {
 			switch(state) {
@@ -133,9 +489,9 @@ public class RSLPAutomata {
 					if(position >= 1) {
 						
 						//we need to search the given word in a list of exception. If the word is found we can not apply the reduction. See the original RSLP article to more details about exceptions.
-						if(RSLPException.isException(in, RSLPException.PLURAL_S) == false){
+						if(isException(in, RSLPException.PLURAL_S) == false){
 							//remove the 's'
-							in = in.substring(0, in.length() - 1);
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 10, in.length() - 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -158,7 +514,7 @@ public class RSLPAutomata {
 						if(position >= 0) {
 							//the 'm' character is add because it is required by the original RSLP algorithm replacement rule
 							//read more about the 'replacement rule' in class RSLPSuffixStrippingRules
-							in = in.substring(0, position) + "m";
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 0, position, RSLPOutcome.REPLACEMENT_M);
 						}
 						position = STOP;
 					break;
@@ -167,9 +523,9 @@ public class RSLPAutomata {
 						//executed when the automata can not change to state 3, 4 ou 5
 						
 						if(position >= 1) {
-							if(RSLPException.isException(in, RSLPException.PLURAL_S) == false){
+							if(isException(in, RSLPException.PLURAL_S) == false){
 								//remove the 's'
-								in = in.substring(0, in.length() - 1);
+								outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 10, in.length() - 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -182,15 +538,15 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in es
 					if(position >= 2) {
-						in = in.substring(0, position) + "o";
+						outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 1, position, RSLPOutcome.REPLACEMENT_AO);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in es
 					if(position >= 0) {
-						if(RSLPException.isException(in, RSLPException.PLURAL_AES) == false){
-							in = in.substring(0, position) + "o";
+						if(isException(in, RSLPException.PLURAL_AES) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 2, position, RSLPOutcome.REPLACEMENT_AO);
 						}
 					}
 					position = STOP;
@@ -198,15 +554,15 @@ public class RSLPAutomata {
 				case 'l':
 					//rule for word ending in les
 					if(position >= 2) {
-						in = in.substring(0, position) + "l";
+						outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 8, position, RSLPOutcome.REPLACEMENT_L);
 					}
 					position = STOP;
 				break;
 				case 'r':
 					//rule for word ending in res
 					if(position >= 2) {
-						if(RSLPException.isException(in, RSLPException.PLURAL_RES) == false){
-							in = in.substring(0, position) + "r";
+						if(isException(in, RSLPException.PLURAL_RES) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 9, position, RSLPOutcome.REPLACEMENT_R);
 						}
 					}
 					position = STOP;
@@ -222,37 +578,37 @@ public class RSLPAutomata {
 				switch(in.charAt(position)) {
 				case 'a':
 					if(position >= 0) {
-						if(RSLPException.isException(in, RSLPException.PLURAL_AIS) == false){
-							in = in.substring(0, position) + "al";
+						if(isException(in, RSLPException.PLURAL_AIS) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 3, position, RSLPOutcome.REPLACEMENT_AL);
 						}
 					}
 					position = STOP;
 				break;
 				case '':
 					if(position >= 1) {
-							in = in.substring(0, position) + "el";
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 4, position, RSLPOutcome.REPLACEMENT_EL);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					if(position >= 1) {
-						if(RSLPException.isException(in, RSLPException.PLURAL_EIS) == false){
-							in = in.substring(0, position) + "el";
+						if(isException(in, RSLPException.PLURAL_EIS) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 5, position, RSLPOutcome.REPLACEMENT_EL);
 						}
 					}
 					position = STOP;
 				break;
 				case '':
 					if(position >= 1) {
-						in = in.substring(0, position) + "ol";
+						outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 6, position, RSLPOutcome.REPLACEMENT_OL);
 					}
 					position = STOP;
 				break;
 				default:
 					if(position >= 1) {
-						if(RSLPException.isException(in, RSLPException.PLURAL_IS) == false){
+						if(isException(in, RSLPException.PLURAL_IS) == false){
 							//it is necessary made (position + 1) because the algorithm has gone back one state in the automata
-							in = in.substring(0, position + 1) + "il";
+							outcome = RSLPOutcome.of(RSLPOutcome.PLURAL_REDUCTION, 7, position + 1, RSLPOutcome.REPLACEMENT_IL);
 						}
 					}
 					position = STOP;
@@ -262,7 +618,7 @@ public class RSLPAutomata {
 			}
 		}
 		
-		return in;
+		return outcome;
 		
 	}
 	
@@ -273,9 +629,31 @@ public class RSLPAutomata {
 	 * @return Processed word. It can be the original word if none of the reductions was applied or a modificated word
 	 */
 	public String feminineReduction(String in){
+		return RSLPOutcome.apply(in, feminineReductionOutcome(watch(RSLPOutcome.FEMININE_REDUCTION, in)));
+	}
+	
+	/**
+	 * Executes the feminine reduction step for the given word without creating a new String
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made by the step (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	public long feminineReductionOutcome(CharSequence in){
 
 		int position = in.length() - 2;
 		int state = 1;
+		long outcome = RSLPOutcome.UNCHANGED;
+
+		//the states read the word from its second last character, as the suffixes end in 'a': a word ending in '' only has the rule of ''
+		if(position >= 0 && in.charAt(position + 1) == ''){
+			//rule for word ending in 
+			if(position >= 1){
+				if(isException(in, RSLPException.FEMININE_AA) == false){
+					outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 1, position + 1, RSLPOutcome.REPLACEMENT_AO);
+				}
+			}
+			return outcome;
+		}
 
 		while(position >= 0){
 			switch(state){
@@ -314,14 +692,6 @@ public class RSLPAutomata {
 					position--;
 				break;
 				default:
-					if(in.charAt(in.length() - 1) == ''){
-						//rule for word ending in 
-						if(position >= 1){
-							if(RSLPException.isException(in, RSLPException.FEMININE_AA) == false){
-								in = in.substring(0, position + 1) + "o";
-							}
-						}
-					}
 					position = STOP;
 				break;
 				}
@@ -330,15 +700,15 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'o'){
 					//rule for word ending in ona
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_ONA) == false){
-							in = in.substring(0, position) + "o";
+						if(isException(in, RSLPException.FEMININE_ONA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 0, position, RSLPOutcome.REPLACEMENT_AO);
 						}
 					}
 				}else{
 					//rule for word ending in a
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.FEMININE_NA) == false){
-							in = in.substring(0, position + 1) + "no";
+						if(isException(in, RSLPException.FEMININE_NA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 3, position + 1, RSLPOutcome.REPLACEMENT_NO);
 						}
 					}
 				}
@@ -353,7 +723,7 @@ public class RSLPAutomata {
 				case 'o':
 					//rule for word ending in ora
 					if(position >= 2){
-						in = in.substring(0, position) + "or";
+						outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 2, position, RSLPOutcome.REPLACEMENT_OR);
 					}
 					position = STOP;
 				break;
@@ -375,16 +745,16 @@ public class RSLPAutomata {
 				case 'e':
 					//rule for word ending in esa
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_ESA) == false){
-							in = in.substring(0, position) + "s";
+						if(isException(in, RSLPException.FEMININE_ESA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 5, position, RSLPOutcome.REPLACEMENT_ES);
 						}
 					}
 				break;
 				case 'o':
 					//rule for word ending in osa
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_OSA) == false){
-							in = in.substring(0, position) + "oso";
+						if(isException(in, RSLPException.FEMININE_OSA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 6, position, RSLPOutcome.REPLACEMENT_OSO);
 						}
 					}
 				break;
@@ -396,8 +766,8 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in ica
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_ICA) == false){
-							in = in.substring(0, position) + "ico";
+						if(isException(in, RSLPException.FEMININE_ICA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 8, position, RSLPOutcome.REPLACEMENT_ICO);
 						}
 					}
 					position = STOP;
@@ -416,24 +786,24 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in ada
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.FEMININE_ADA) == false){
-							in = in.substring(0, position) + "ado";
+						if(isException(in, RSLPException.FEMININE_ADA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 9, position, RSLPOutcome.REPLACEMENT_ADO);
 						}
 					}
 				break;
 				case 'i':
 					//rule for word ending in ida
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_IDA) == false){
-							in = in.substring(0, position) + "ido";
+						if(isException(in, RSLPException.FEMININE_IDA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 10, position, RSLPOutcome.REPLACEMENT_IDO);
 						}
 					}
 				break;
 				case '':
 					//rule for word ending in da
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_IIDA) == false){
-							in = in.substring(0, position) + "do";
+						if(isException(in, RSLPException.FEMININE_IIDA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 11, position, RSLPOutcome.REPLACEMENT_IIDO);
 						}
 					}
 				break;
@@ -444,8 +814,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in ima
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_IMA) == false){
-							in = in.substring(0, position) + "imo";
+						if(isException(in, RSLPException.FEMININE_IMA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 12, position, RSLPOutcome.REPLACEMENT_IMO);
 						}
 					}
 				}
@@ -455,8 +825,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in iva
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_IVA) == false){
-							in = in.substring(0, position) + "ivo";
+						if(isException(in, RSLPException.FEMININE_IVA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 13, position, RSLPOutcome.REPLACEMENT_IVO);
 						}
 					}
 				}
@@ -466,8 +836,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in inha
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_INHA) == false){
-							in = in.substring(0, position) + "inho";
+						if(isException(in, RSLPException.FEMININE_INHA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 4, position, RSLPOutcome.REPLACEMENT_INHO);
 						}
 					}
 				}
@@ -477,7 +847,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == ''){
 					//rule for word ending in aca
 					if(position >= 2){
-						in = in.substring(0, position) + "aco";
+						outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 7, position, RSLPOutcome.REPLACEMENT_IACO);
 					}
 				}
 				position = STOP;
@@ -486,8 +856,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in eira
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.FEMININE_EIRA) == false){
-							in = in.substring(0, position) + "eiro";
+						if(isException(in, RSLPException.FEMININE_EIRA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.FEMININE_REDUCTION, 14, position, RSLPOutcome.REPLACEMENT_EIRO);
 						}
 					}
 				}
@@ -495,7 +865,7 @@ public class RSLPAutomata {
 			break;
 			}
 		}
-		return in;
+		return outcome;
 	}
 	
 	/**
@@ -505,10 +875,21 @@ public class RSLPAutomata {
 	 * @return Processed word. It can be the original word if none of the reductions was applied or a modificated word
 	 */
 	public String degreeReduction(String in){
+		return RSLPOutcome.apply(in, degreeReductionOutcome(watch(RSLPOutcome.DEGREE_REDUCTION, in)));
+	}
+	
+	/**
+	 * Executes the degree reduction step for the given word without creating a new String
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made by the step (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	public long degreeReductionOutcome(CharSequence in){
 
 		int position = in.length() - 1;
 		int state = 0;
 		boolean accept = false;
+		long outcome = RSLPOutcome.UNCHANGED;
 
 		while(position >= 0){
 			switch(state){
@@ -550,7 +931,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'u'){
 					//rule for word ending in ua
 					if(position >= 3){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 10, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -602,8 +983,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in o
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.DEGREE_AO) == false){
-							in = in.substring(0, position);
+						if(isException(in, RSLPException.DEGREE_AO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 17, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -619,9 +1000,9 @@ public class RSLPAutomata {
 					break;
 					case 'z':
 						//rule for word ending in zo
-						if(RSLPException.isException(in, RSLPException.DEGREE_ZAO) == false){
+						if(isException(in, RSLPException.DEGREE_ZAO) == false){
 							if(position >= 1){
-								in = in.substring(0, position);
+								outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 16, position, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -629,8 +1010,8 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in o
 						if(position >= 2){
-							if(RSLPException.isException(in, RSLPException.DEGREE_AO) == false){
-								in = in.substring(0, position + 1);
+							if(isException(in, RSLPException.DEGREE_AO) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 17, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -642,8 +1023,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in ao
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.DEGREE_ACO) == false){
-							in = in.substring(0, position);
+						if(isException(in, RSLPException.DEGREE_ACO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 11, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -677,6 +1058,8 @@ public class RSLPAutomata {
 					state = 16;
 					position--;
 				}else{
+					//the word does not end in alho, so the rule for word ending in o is applied (the '' is two positions ahead)
+					outcome = aoOutcome(in, position + 2);
 					position = STOP;
 				}
 			break;
@@ -700,8 +1083,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in inho
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.DEGREE_INHO) == false){
-							in = in.substring(0, position + 1);
+						if(isException(in, RSLPException.DEGREE_INHO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 8, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -710,7 +1093,7 @@ public class RSLPAutomata {
 					case 'z':
 						//rule for word ending in zinho
 						if(position >= 1){
-							in = in.substring(0, position);
+							outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 4, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -725,8 +1108,8 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in inho
 						if(position >= 2){
-							if(RSLPException.isException(in, RSLPException.DEGREE_INHO) == false){
-								in = in.substring(0, position + 1);
+							if(isException(in, RSLPException.DEGREE_INHO) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 8, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -738,8 +1121,11 @@ public class RSLPAutomata {
 				//rule for word ending in alho
 				if(in.charAt(position) == 'a'){
 					if(position >= 3){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 9, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
+				}else{
+					//the word does not end in alho, so the rule for word ending in o is applied (the '' is three positions ahead)
+					outcome = aoOutcome(in, position + 3);
 				}
 				position = STOP;
 			break;
@@ -755,7 +1141,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == ''){
 					//rule for word ending in rrimo
 					if(position >= 3){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 3, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -764,12 +1150,12 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'q'){
 					//rule for word ending in quinho
 					if(position >= 3){
-						in = in.substring(0, position) + "c";
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 5, position, RSLPOutcome.REPLACEMENT_C);
 					}
 				}else{
 					//rule for word ending in uinho
 					if(position >= 3){
-						in = in.substring(0, position + 1);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 6, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -778,7 +1164,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in adinho
 					if(position >= 2){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 7, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -791,7 +1177,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ssimo
 					if(position >= 2){
-						in = in.substring(0, position + 1);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 2, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -799,7 +1185,7 @@ public class RSLPAutomata {
 					case 'd':
 						//rule for word ending in dssimo
 						if(position >= 4){
-							in = in.substring(0, position);
+							outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 0, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -810,7 +1196,7 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in ssimo
 						if(position >= 2){
-							in = in.substring(0, position + 1);
+							outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 2, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -841,7 +1227,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in abilssimo
 					if(position >= 4){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 1, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -862,7 +1248,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in arra
 					if(position >= 2){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 15, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -895,7 +1281,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in arraz
 					if(position >= 3){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 14, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -912,8 +1298,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == ''){
 					//rule for word ending in zio
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.DEGREE_AZIO) == false){
-							in = in.substring(0, position);
+						if(isException(in, RSLPException.DEGREE_AZIO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 13, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -923,14 +1309,29 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in ado
 					if(position >= 3){
-						in = in.substring(0, position);
+						outcome = RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 12, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
+				}else{
+					//the word does not end in ado, so the rule for word ending in o is applied (the '' is two positions ahead)
+					outcome = aoOutcome(in, position + 2);
 				}
 				position = STOP;
 			break;
 			}
 		}
-		return in;
+		return outcome;
+	}
+	
+	/**
+	 * Rule for word ending in o, used when the states of a longer suffix ending in o do not match the word
+	 * 
+	 * @param cut Position of the '', the length of the residual word
+	 */
+	private static long aoOutcome(CharSequence in, int cut){
+		if(cut >= 3 && isException(in, RSLPException.DEGREE_AO) == false){
+			return RSLPOutcome.of(RSLPOutcome.DEGREE_REDUCTION, 17, cut, RSLPOutcome.REPLACEMENT_EMPTY);
+		}
+		return RSLPOutcome.UNCHANGED;
 	}
 	
 	/**
@@ -940,13 +1341,58 @@ public class RSLPAutomata {
 	 * @return Processed word. It can be the original word if none of the reductions was applied or a modificated word
 	 */
 	public String adverbReduction(String in){
-		//rule for word ending in mente
-		if(in.endsWith("mente") == true){
-			if(RSLPException.isException(in, RSLPException.ADVERB_MENTE) == false){
-				return in.replace("mente", "");
+		return RSLPOutcome.apply(in, adverbReductionOutcome(watch(RSLPOutcome.ADVERB_REDUCTION, in)));
+	}
+	
+	/**
+	 * Executes the adverb reduction step for the given word without creating a new String
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made by the step (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	public long adverbReductionOutcome(CharSequence in){
+		
+		int position = in.length() - 1;
+		int state = 0;
+		long outcome = RSLPOutcome.UNCHANGED;
+		
+		//each state reads one character of the suffix 'mente', from the end of the word
+		while(position >= 0){
+			switch(state){
+			case 0:
+			case 3:
+				//the last and the fourth last characters of the suffix
+				state = in.charAt(position) == 'e' ? state + 1 : STOP;
+				position--;
+			break;
+			case 1:
+				state = in.charAt(position) == 't' ? 2 : STOP;
+				position--;
+			break;
+			case 2:
+				state = in.charAt(position) == 'n' ? 3 : STOP;
+				position--;
+			break;
+			case 4:
+				if(in.charAt(position) == 'm'){
+					//rule for word ending in 'mente'
+					//the position of 'm' is the length of the residual word, so the value used in this if is the 'minimum stem size'
+					if(position >= 4){
+						if(isException(in, RSLPException.ADVERB_MENTE) == false){
+							//only the suffix is removed, even if the word has 'mente' before it
+							outcome = RSLPOutcome.of(RSLPOutcome.ADVERB_REDUCTION, 0, position, RSLPOutcome.REPLACEMENT_EMPTY);
+						}
+					}
+				}
+				position = STOP;
+			break;
+			default:
+				position = STOP;
 			}
 		}
-		return in;
+		
+		return outcome;
+		
 	}
 
 	/**
@@ -956,10 +1402,21 @@ public class RSLPAutomata {
 	 * @return Processed word. It can be the original word if none of the reductions was applied or a modificated word
 	 */
 	public String nounReduction(String in){
+		return RSLPOutcome.apply(in, nounReductionOutcome(watch(RSLPOutcome.NOUN_REDUCTION, in)));
+	}
+	
+	/**
+	 * Executes the noun reduction step for the given word without creating a new String
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made by the step (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	public long nounReductionOutcome(CharSequence in){
 
 		int position = in.length() - 1;
 		int state = 1;
 		boolean accept = false;
+		long outcome = RSLPOutcome.UNCHANGED;
 
 		while(position >= 0){
 			switch(state){
@@ -1056,8 +1513,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in eza
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 37, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -1075,9 +1531,8 @@ public class RSLPAutomata {
 				case 'o':
 					//rule for word ending in oria
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_ORIA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ORIA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 46, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1103,8 +1558,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ista
 					if(position >= 3){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 48, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1120,8 +1574,7 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in ista
 						if(position >= 3){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 48, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -1141,16 +1594,14 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in ncia
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 23, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case '':
 					//rule for word ending in ncia
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_ANCIA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ANCIA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 24, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
@@ -1181,8 +1632,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in alista
 					if(position >= 4){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 1, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1192,8 +1642,7 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in alista
 						if(position >= 4){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 1, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					}
@@ -1223,8 +1672,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in encialista
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 0, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1237,8 +1685,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in atria
 					if(position >= 4){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 17, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -1257,14 +1704,12 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in icionista
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 20, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}else{
 					//rule for word ending in cionista
 					if(position >= 4){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 21, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -1277,10 +1722,10 @@ public class RSLPAutomata {
 				break;
 				case 'i':
 					//rule for word ending in i
-					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_IC) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+					//the position of 'i' is the length of the residual word, so the value used in this if is the 'minimum stem size'
+					if(position >= 3){
+						if(isException(in, RSLPException.NOUN_IC) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 33, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1294,9 +1739,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in a
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_AC) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_AC) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 32, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1307,9 +1751,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in a
 						if(position >= 2){
-							if(RSLPException.isException(in, RSLPException.NOUN_AC) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_AC) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 32, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -1330,9 +1773,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in iza
 					if(position >= 4){
-						if(RSLPException.isException(in, RSLPException.NOUN_IZAC) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_IZAC) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 31, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1343,9 +1785,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in iza
 						if(position >= 4){
-							if(RSLPException.isException(in, RSLPException.NOUN_IZAC) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_IZAC) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 31, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -1356,8 +1797,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in aliza
 					if(position >= 4){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 29, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1414,18 +1854,17 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in ante
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.NOUN_ANTE) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ANTE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 40, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'e':
 					//rule for word ending in ente
-					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_ENTE) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+					//the position of the first 'e' is the length of the residual word, so the value used in this if is the 'minimum stem size'
+					if(position >= 4){
+						if(isException(in, RSLPException.NOUN_ENTE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 52, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
@@ -1452,9 +1891,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in idade
 					if(position >= 4){
-						if(RSLPException.isException(in, RSLPException.NOUN_IDADE) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_IDADE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 45, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1471,9 +1909,8 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in idade
 						if(position >= 4){
-							if(RSLPException.isException(in, RSLPException.NOUN_IDADE) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_IDADE) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 45, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -1485,8 +1922,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in ividade
 					if(position >= 4){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 44, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1519,8 +1955,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in abilidade
 					if(position >= 4){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 19, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1548,9 +1983,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in al
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_AL) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_AL) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 60, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1559,9 +1993,8 @@ public class RSLPAutomata {
 					case 'u':
 						//rule for word ending in ual
 						if(position >= 2){
-							if(RSLPException.isException(in, RSLPException.NOUN_UAL) == false){
-								in = in.substring(0, position);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_UAL) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 58, position, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -1577,9 +2010,8 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in al
 						if(position >= 3){
-							if(RSLPException.isException(in, RSLPException.NOUN_AL) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_AL) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 60, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -1591,8 +2023,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ial
 					if(position >= 2){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 59, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1602,8 +2033,7 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in ial
 						if(position >= 2){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 59, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					}
@@ -1622,18 +2052,16 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in vel
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.NOUN_AVEL) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_AVEL) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 55, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case '':
 					//rule for word ending in vel
 					if(position >= 4){
-						if(RSLPException.isException(in, RSLPException.NOUN_IVEL) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_IVEL) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 56, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
@@ -1645,9 +2073,8 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in inal
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_INAL) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_INAL) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 53, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1677,8 +2104,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in encial
 					if(position >= 4){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 47, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1691,8 +2117,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in ional
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 22, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -1705,9 +2130,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ice
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_ICE) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ICE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 50, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1718,9 +2142,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in ice
 						if(position >= 3){
-							if(RSLPException.isException(in, RSLPException.NOUN_ICE) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_ICE) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 50, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -1731,8 +2154,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'q'){
 					//rule for word ending in quice
 					if(position >= 3){
-						in = in.substring(0, position) + "c";
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 49, position, RSLPOutcome.REPLACEMENT_C);
 					}
 					position = STOP;
 				}else{
@@ -1761,9 +2183,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in agem
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_AGEM) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_AGEM) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 2, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -1829,9 +2250,8 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in ido
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_IDO) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_IDO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 13, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1868,9 +2288,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'o'){
 					//rule for word ending in oso
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_OSO) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_OSO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 28, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -1923,9 +2342,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ado
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.NOUN_ADO) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ADO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 12, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1936,9 +2354,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in ado
 						if(position >= 1){
-							if(RSLPException.isException(in, RSLPException.NOUN_ADO) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_ADO) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 12, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -1952,9 +2369,8 @@ public class RSLPAutomata {
 				}else{
 					//rule for word ending in ivo
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_IVO) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_IVO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 11, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1980,9 +2396,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in eiro
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_EIRO) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_EIRO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 27, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -1993,9 +2408,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in eiro
 						if(position >= 2){
-							if(RSLPException.isException(in, RSLPException.NOUN_EIRO) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_EIRO) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 27, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -2019,8 +2433,7 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in imento
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 5, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2033,15 +2446,13 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in iamento
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 3, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}else{
 					//rule for word ending in amento
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_AMENTO) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_AMENTO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 4, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -2061,9 +2472,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in izado
 					if(position >= 4){
-						if(RSLPException.isException(in, RSLPException.NOUN_IZADO) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_IZADO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 8, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2080,9 +2490,8 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in izado
 						if(position >= 4){
-							if(RSLPException.isException(in, RSLPException.NOUN_IZADO) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_IZADO) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 8, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -2094,8 +2503,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in alizado
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 6, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -2108,8 +2516,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in atizado
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 7, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -2122,17 +2529,15 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in ativo
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_ATIVO) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ATIVO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 9, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}else{
 					//rule for word ending in tivo
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_TIVO) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_TIVO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 10, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -2150,8 +2555,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in edouro
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 25, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -2160,8 +2564,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'q'){
 					//rule for word ending in queiro
 					if(position >= 2){
-						in = in.substring(0, position) + "c";
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 26, position, RSLPOutcome.REPLACEMENT_C);
 					}
 					position = STOP;
 				}else{
@@ -2174,9 +2577,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'i'){
 					//rule for word ending in ismo
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_ISMO) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ISMO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 30, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -2187,17 +2589,15 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in rio
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.NOUN_ARIO) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ARIO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 34, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case '':
 					//rule for word ending in rio
 					if(position >= 5){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 35, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -2207,9 +2607,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ico
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_ICO) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ICO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 43, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2220,9 +2619,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in ico
 						if(position >= 3){
-							if(RSLPException.isException(in, RSLPException.NOUN_ICO) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_ICO) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 43, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -2234,8 +2632,7 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in tico
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 42, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2254,9 +2651,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == ''){
 					//rule for word ending in stico
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_ASTICO) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_ASTICO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 41, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2270,8 +2666,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in esco
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 39, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -2280,8 +2675,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == ''){
 					//rule for word ending in aco
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 51, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -2290,8 +2684,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in ano
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 54, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -2308,9 +2701,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in or
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.NOUN_OR) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_OR) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 18, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2321,9 +2713,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in or
 						if(position >= 1){
-							if(RSLPException.isException(in, RSLPException.NOUN_OR) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.NOUN_OR) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 18, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -2335,25 +2726,22 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in ador
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 14, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					//rule for word ending in edor
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 15, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'i':
 					//rule for word ending in idor
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_IDOR) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_IDOR) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 16, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2369,9 +2757,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'u'){
 					//rule for word ending in ura
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.NOUN_URA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.NOUN_URA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 57, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -2381,8 +2768,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == ''){
 					//rule for word ending in s
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 36, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -2391,8 +2777,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in ez
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.NOUN_REDUCTION, 38, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				}
 				position = STOP;
@@ -2409,7 +2794,7 @@ public class RSLPAutomata {
 			break;
 			}
 		}
-		return in;
+		return outcome;
 	}
 	
 	/**
@@ -2419,10 +2804,21 @@ public class RSLPAutomata {
 	 * @return Processed word. It can be the original word if none of the reductions was applied or a modificated word
 	 */
 	public String verbReduction(String in){
+		return RSLPOutcome.apply(in, verbReductionOutcome(watch(RSLPOutcome.VERB_REDUCTION, in)));
+	}
+	
+	/**
+	 * Executes the verb reduction step for the given word without creating a new String
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made by the step (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	public long verbReductionOutcome(CharSequence in){
 
 		int position = in.length() - 1;
 		int state = 0;
 		boolean accept = false;
+		long outcome = RSLPOutcome.UNCHANGED;
 
 		while(position >= 0){
 			switch(state){
@@ -2485,8 +2881,7 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in ai
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 75, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2497,8 +2892,7 @@ public class RSLPAutomata {
 				default:
 					//rule for word ending in i
 					if(position >= 2){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 88, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2578,9 +2972,8 @@ public class RSLPAutomata {
 				case 'e':
 					//rule for word ending in er
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_ER) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_ER) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 82, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2588,9 +2981,8 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in ir
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_IR) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_IR) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 85, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2605,24 +2997,21 @@ public class RSLPAutomata {
 				case 'o':
 					//rule for word ending in ou
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 87, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'e':
 					//rule for word ending in eu
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_EU) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_EU) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 83, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'i':
 					//rule for word ending in iu
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 86, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -2645,17 +3034,15 @@ public class RSLPAutomata {
 				case 'o':
 					//rule for word ending in omo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 74, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'i':
 					//rule for word ending in imo
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_IMO) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_IMO) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 70, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -2669,8 +3056,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in amo
 					if(position >= 1){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 59, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -2690,8 +3076,7 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in amo
 						if(position >= 1){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 59, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -2702,8 +3087,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in amo
 					if(position >= 2){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 49, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -2713,8 +3097,7 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in amo
 						if(position >= 2){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 49, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					}
@@ -2725,24 +3108,21 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in iramo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 4, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					//rule for word ending in eramo
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 2, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'a':
 					//rule for word ending in aramo
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 0, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2756,8 +3136,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in emo
 					if(position >= 1){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 64, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -2773,8 +3152,7 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in emo
 						if(position >= 1){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 64, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -2796,24 +3174,21 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in ssemo
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 3, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in ssemo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 5, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in ssemo
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 1, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2829,24 +3204,21 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in ramo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 20, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in ramo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 14, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in ramo
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 6, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2862,24 +3234,21 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in aremo
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 8, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					//rule for word ending in eremo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 15, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'i':
 					//rule for word ending in iremo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 21, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -2893,8 +3262,7 @@ public class RSLPAutomata {
 			case 26:
 				if(in.charAt(position) == ''){
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 13, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -2916,29 +3284,25 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in ando
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 26, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'e':
 					//rule for word ending in endo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 27, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'i':
 					//rule for word ending in indo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 28, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'o':
 					//rule for word ending in ondo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 29, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -2949,22 +3313,19 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in armo
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 35, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'e':
 					//rule for word ending in ermo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 46, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'i':
 					//rule for word ending in irmo
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 56, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -2974,8 +3335,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ei
 					if(position >= 2){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 80, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -2995,8 +3355,7 @@ public class RSLPAutomata {
 					case 'u':
 						//rule for word ending in uei
 						if(position >= 2){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 79, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -3007,8 +3366,7 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in ei
 						if(position >= 2){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 80, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -3020,41 +3378,36 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in rei
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 43, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'a':
 					//rule for word ending in arei
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 32, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					//rule for word ending in erei
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 42, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in rei
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 7, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'i':
 					//rule for word ending in irei
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_IREI) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_IREI) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 53, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -3069,8 +3422,7 @@ public class RSLPAutomata {
 			case 47:
 				if(accept){
 					if(position >= 2){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 69, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -3079,8 +3431,7 @@ public class RSLPAutomata {
 						position--;
 					}else{
 						if(position >= 2){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 69, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					}
@@ -3090,22 +3441,19 @@ public class RSLPAutomata {
 				switch(in.charAt(position)){
 				case 'i':
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 23, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 17, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'a':
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 10, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -3132,24 +3480,21 @@ public class RSLPAutomata {
 				case '':
 					//rule for word ending in ssei
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 11, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in ssei
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 18, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in ssei
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 24, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -3164,8 +3509,7 @@ public class RSLPAutomata {
 				if(in.charAt(position) == ''){
 					//rule for word ending in vei
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 39, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -3178,8 +3522,7 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in am
 					if(position >= 1){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 76, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -3199,8 +3542,7 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in am
 						if(position >= 1){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 76, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 						position = STOP;
 					break;
@@ -3211,8 +3553,7 @@ public class RSLPAutomata {
 				//rule for word ending in iam
 				if(accept){
 					if(position >= 2){
-						in = in.substring(0, position + 1);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 68, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				}else{
@@ -3222,9 +3563,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in iam
 						if(position >= 2){
-							if(RSLPException.isException(in, RSLPException.VERB_IAM) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.VERB_IAM) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 68, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -3236,24 +3576,21 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in iriam
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 22, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					//rule for word ending in eriam
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 16, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'a':
 					//rule for word ending in ariam
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 9, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -3268,9 +3605,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in em
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_EM) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_EM) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 81, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -3287,9 +3623,8 @@ public class RSLPAutomata {
 					default:
 						//rule for word ending in em
 						if(position >= 1){
-							if(RSLPException.isException(in, RSLPException.VERB_EM) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.VERB_EM) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 81, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -3312,24 +3647,21 @@ public class RSLPAutomata {
 				case 'e':
 					//rule for word ending in essem
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 19, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'a':
 					//rule for word ending in assem
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 12, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'i':
 					//rule for word ending in issem
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 25, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -3345,32 +3677,28 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in iram
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 50, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'a':
 					//rule for word ending in aram
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 30, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					//rule for word ending in eram
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 40, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case '':
 					//rule for word ending in ram
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 51, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -3386,25 +3714,22 @@ public class RSLPAutomata {
 				case 'a':
 					//rule for word ending in arem
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 33, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'e':
 					//rule for word ending in erem
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 44, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'i':
 					//rule for word ending in irem
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_IREM) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_IREM) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 54, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -3420,9 +3745,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in avam
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_AVAM) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_AVAM) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 38, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -3436,9 +3760,8 @@ public class RSLPAutomata {
 				if(accept){
 					//rule for word ending in ia
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_IA) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_IA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 84, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 					position = STOP;
@@ -3449,9 +3772,8 @@ public class RSLPAutomata {
 					}else{
 						//rule for word ending in ia
 						if(position >= 2){
-							if(RSLPException.isException(in, RSLPException.VERB_IA) == false){
-								in = in.substring(0, position + 1);
-								suffixRemoved = true;
+							if(isException(in, RSLPException.VERB_IA) == false){
+								outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 84, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 							}
 						}
 						position = STOP;
@@ -3463,24 +3785,21 @@ public class RSLPAutomata {
 				case 'e':
 					//rule for word ending in eria
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 45, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'a':
 					//rule for word ending in aria
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 34, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
 				case 'i':
 					//rule for word ending in iria
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 55, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 					position = STOP;
 				break;
@@ -3496,27 +3815,24 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in ira
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_IRA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_IRA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 71, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'a':
 					//rule for word ending in ara
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_ARA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_ARA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 60, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'e':
 					//rule for word ending in era
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_ERA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_ERA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 65, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
@@ -3527,9 +3843,8 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'a'){
 					//rule for word ending in ava
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_AVA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_AVA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 63, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -3548,22 +3863,19 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in irde
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 52, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'e':
 					//rule for word ending in erde
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 41, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'a':
 					//rule for word ending in arde
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 31, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -3582,22 +3894,19 @@ public class RSLPAutomata {
 				case 'e':
 					//rule for word ending in esse
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 47, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'i':
 					//rule for word ending in isse
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 57, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'a':
 					//rule for word ending in asse
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 36, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -3616,24 +3925,21 @@ public class RSLPAutomata {
 				case 'e':
 					//rule for word ending in este
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_ESTE) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_ESTE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 48, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'a':
 					//rule for word ending in aste
 					if(position >= 1){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 37, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'i':
 					//rule for word ending in iste
 					if(position >= 3){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 58, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -3644,27 +3950,24 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in ire
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_IRE) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_IRE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 73, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'a':
 					//rule for word ending in are
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_ARE) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_ARE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 62, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'e':
 					//rule for word ending in ere
 					if(position >= 2){
-						if(RSLPException.isException(in, RSLPException.VERB_ERE) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_ERE) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 67, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
@@ -3676,24 +3979,21 @@ public class RSLPAutomata {
 				case 'i':
 					//rule for word ending in ir
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 72, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				case 'a':
 					//rule for word ending in ar
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_ARAA) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_ARAA) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 61, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				break;
 				case 'e':
 					//rule for word ending in er
 					if(position >= 2){
-						in = in.substring(0, position);
-						suffixRemoved = true;
+						outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 66, position, RSLPOutcome.REPLACEMENT_EMPTY);
 					}
 				break;
 				}
@@ -3703,17 +4003,15 @@ public class RSLPAutomata {
 				if(in.charAt(position) == 'e'){
 					//rule for word ending in ear
 					if(position >= 3){
-						if(RSLPException.isException(in, RSLPException.VERB_EAR) == false){
-							in = in.substring(0, position);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_EAR) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 77, position, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}else{
 					//rule for word ending in ar
 					if(position >= 1){
-						if(RSLPException.isException(in, RSLPException.VERB_AR) == false){
-							in = in.substring(0, position + 1);
-							suffixRemoved = true;
+						if(isException(in, RSLPException.VERB_AR) == false){
+							outcome = RSLPOutcome.of(RSLPOutcome.VERB_REDUCTION, 78, position + 1, RSLPOutcome.REPLACEMENT_EMPTY);
 						}
 					}
 				}
@@ -3721,7 +4019,7 @@ public class RSLPAutomata {
 			break;
 			}
 		}
-		return in;
+		return outcome;
 	}
 	
 	/**
@@ -3731,12 +4029,27 @@ public class RSLPAutomata {
 	 * @return Processed word. It can be the original word if none of the reductions was applied or a modificated word
 	 */
 	public String removeVowel(String in){
-		if(in.length() > 2 && RSLPException.isException(in, RSLPException.VOWEL) == false){
-			if(in.endsWith("a") || in.endsWith("e") || in.endsWith("o")){
-				return in.substring(0, in.length() - 1);
+		return RSLPOutcome.apply(in, removeVowelOutcome(watch(RSLPOutcome.VOWEL_REMOVE, in)));
+	}
+	
+	/**
+	 * Executes the vowel remove step for the given word without creating a new String
+	 * 
+	 * @param in Word to be processed
+	 * @return Edit made by the step (see {@link RSLPOutcome}) or {@link RSLPOutcome#UNCHANGED} if none of the reductions was applied
+	 */
+	public long removeVowelOutcome(CharSequence in){
+		if(in.length() > 2 && isException(in, RSLPException.VOWEL) == false){
+			switch(in.charAt(in.length() - 1)){
+			case 'a':
+				return RSLPOutcome.of(RSLPOutcome.VOWEL_REMOVE, 0, in.length() - 1, RSLPOutcome.REPLACEMENT_EMPTY);
+			case 'e':
+				return RSLPOutcome.of(RSLPOutcome.VOWEL_REMOVE, 1, in.length() - 1, RSLPOutcome.REPLACEMENT_EMPTY);
+			case 'o':
+				return RSLPOutcome.of(RSLPOutcome.VOWEL_REMOVE, 2, in.length() - 1, RSLPOutcome.REPLACEMENT_EMPTY);
 			}
 		}
-		return in;
+		return RSLPOutcome.UNCHANGED;
 	}
 
 	/**
@@ -3748,5 +4061,20 @@ public class RSLPAutomata {
 	public String removeAccents(String in){
 		return in.replaceAll("|||", "a").replaceAll("|", "e").replaceAll("", "i").replaceAll("||", "o").replaceAll("", "");
 	}
+	
+	/**
+	 * Gives the word to a step, counting the characters read by the step if the counting is enabled
+	 */
+	private CharSequence watch(int step, String in){
+		return counters == null ? in : counters.watch(step, in);
+	}
+	
+	/**
+	 * Searches the word in the exception list. The counting and traced words search themselves, to record the search.
+	 */
+	private static boolean isException(CharSequence in, String[] exceptions){
+		if(in instanceof RSLPExceptionLookup) return ((RSLPExceptionLookup) in).isException(exceptions);
+		return RSLPException.isException(in, exceptions);
+	}
 
 }
@@ -0,0 +1,304 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPCorpusGenerator.java                                                    */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates synthetic Portuguese text (one word per line) to be used as input of benchmarks, without real texts.
+ *
+ * <p>The vocabulary is built from the examples of the rules of {@link RSLPSuffixStrippingRules}, the words of the exception lists
+ * of {@link RSLPException} and new forms made by joining the stems of a pool with the suffixes of the rules (and sometimes a plural
+ * 's'). By default the pool has the stems of the examples of the rules. The words are sampled with a Zipf distribution, as the
+ * frequencies of the words of a natural language: the word of rank r has frequency proportional to 1 / r^s.</p>
+ *
+ * <p>The generation is deterministic: the same parameters always produce the same vocabulary and the same sequence of words.
+ * Instances are not thread safe.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPCorpusGenerator {
+
+	/** Number of distinct words used when not informed */
+	public static final int DEFAULT_VOCABULARY_SIZE = 50000;
+
+	/** Exponent of the Zipf distribution used when not informed, close to the one observed in Portuguese texts */
+	public static final double DEFAULT_EXPONENT = 1.0;
+
+	/** Distinct words, ordered by rank (the first is the most frequent) */
+	private final String[] vocabulary;
+
+	/** UTF-8 bytes of each word of the vocabulary, followed by the line break */
+	private final byte[][] lines;
+
+	/** Cumulative probability of each rank */
+	private final double[] cumulative;
+
+	private final Random random;
+
+	/**
+	 * Creates a generator with the default vocabulary size, exponent and stems
+	 *
+	 * @param seed Seed of the generation
+	 */
+	public RSLPCorpusGenerator(long seed) {
+		this(seed, DEFAULT_VOCABULARY_SIZE, DEFAULT_EXPONENT, getExampleStems());
+	}
+
+	/**
+	 * @param seed Seed of the generation
+	 * @param vocabularySize Maximum number of distinct words (it can be smaller if the stems do not allow so many words)
+	 * @param exponent Exponent of the Zipf distribution (bigger values concentrate the samples in the first words)
+	 * @param stems Pool of stems joined with the suffixes of the rules to build new words
+	 */
+	public RSLPCorpusGenerator(long seed, int vocabularySize, double exponent, Collection<String> stems) {
+
+		if(vocabularySize <= 0) {
+			throw new IllegalArgumentException("The vocabulary size must be positive: " + vocabularySize);
+		}
+
+		this.vocabulary = buildVocabulary(new Random(seed), vocabularySize, new ArrayList<String>(stems));
+		this.random = new Random(~seed);
+
+		this.lines = new byte[vocabulary.length][];
+		for(int i=0; i < vocabulary.length; i++) {
+			lines[i] = (vocabulary[i] + "\n").getBytes(StandardCharsets.UTF_8);
+		}
+
+		this.cumulative = new double[vocabulary.length];
+		double sum = 0;
+		for(int rank=1; rank <= vocabulary.length; rank++) {
+			sum += 1 / Math.pow(rank, exponent);
+			cumulative[rank - 1] = sum;
+		}
+		for(int i=0; i < cumulative.length; i++) {
+			cumulative[i] /= sum;
+		}
+
+	}
+
+	/**
+	 * @return The stems of the examples of the rules: each example without the suffix of its rule
+	 */
+	public static List<String> getExampleStems() {
+
+		Set<String> stems = new LinkedHashSet<String>();
+
+		for(int step=RSLPOutcome.PLURAL_REDUCTION; step <= RSLPOutcome.VOWEL_REMOVE; step++) {
+			for(RSLPStrippingRule rule : RSLPOutcome.getRules(step)) {
+				String example = rule.getExample();
+				if(example.endsWith(rule.getSuffix()) && example.length() > rule.getSuffix().length()) {
+					stems.add(example.substring(0, example.length() - rule.getSuffix().length()));
+				}
+			}
+		}
+
+		return new ArrayList<String>(stems);
+
+	}
+
+	private static String[] buildVocabulary(Random random, int size, List<String> stems) {
+
+		Set<String> words = new LinkedHashSet<String>();
+		List<RSLPStrippingRule> rules = new ArrayList<RSLPStrippingRule>();
+
+		for(int step=RSLPOutcome.PLURAL_REDUCTION; step <= RSLPOutcome.VOWEL_REMOVE; step++) {
+			for(RSLPStrippingRule rule : RSLPOutcome.getRules(step)) {
+				rules.add(rule);
+				words.add(rule.getExample());
+				words.add(rule.getExampleResult());
+			}
+		}
+
+		Collections.addAll(words, RSLPException.getAllExceptions());
+
+		//new forms, stopping when the pool does not give new words
+		int attempts = size * 20;
+		while(words.size() < size && stems.isEmpty() == false && attempts-- > 0) {
+
+			String stem = stems.get(random.nextInt(stems.size()));
+			String word = stem + rules.get(random.nextInt(rules.size())).getSuffix();
+
+			char last = word.charAt(word.length() - 1);
+			if(random.nextInt(4) == 0 && (last == 'a' || last == 'e' || last == 'o')) {
+				word += "s";
+			}
+
+			words.add(word);
+
+		}
+
+		//the ranks are given in a random order, so the frequent words are not only the examples
+		List<String> vocabulary = new ArrayList<String>(words);
+		vocabulary.remove("");
+		Collections.shuffle(vocabulary, random);
+
+		return vocabulary.subList(0, Math.min(size, vocabulary.size())).toArray(new String[0]);
+
+	}
+
+	/**
+	 * @return Number of distinct words that can be generated
+	 */
+	public int getVocabularySize() {
+		return vocabulary.length;
+	}
+
+	/**
+	 * @param rank Rank of the word, from zero (the most frequent word) to getVocabularySize() - 1
+	 * @return The word of the given rank
+	 */
+	public String getWord(int rank) {
+		return vocabulary[rank];
+	}
+
+	private int nextRank() {
+		int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+		return Math.min(rank < 0 ? -rank - 1 : rank, vocabulary.length - 1);
+	}
+
+	/**
+	 * @return The next word of the corpus
+	 */
+	public String next() {
+		return vocabulary[nextRank()];
+	}
+
+	/**
+	 * Writes words (UTF-8, one per line) in the stream until the given size is reached
+	 *
+	 * @param out Where the words are written (it is not closed)
+	 * @param bytes Size of the text. The last line is not cut, so the text can be a bit bigger.
+	 * @return Number of words written
+	 * @throws IOException If the stream fails
+	 */
+	public long write(OutputStream out, long bytes) throws IOException {
+
+		byte[] buffer = new byte[1 << 16];
+		int used = 0;
+		long written = 0;
+		long words = 0;
+
+		while(written < bytes) {
+
+			byte[] line = lines[nextRank()];
+			if(used + line.length > buffer.length) {
+				out.write(buffer, 0, used);
+				used = 0;
+			}
+
+			System.arraycopy(line, 0, buffer, used, line.length);
+			used += line.length;
+			written += line.length;
+			words++;
+
+		}
+
+		out.write(buffer, 0, used);
+
+		return words;
+
+	}
+
+	/**
+	 * Fills the buffer with words (UTF-8, one per line), from its position while there is space for a whole line
+	 *
+	 * @param buffer Where the words are written. It can be a direct buffer, to hold corpus bigger than the heap.
+	 * @return Number of words written
+	 */
+	public long fill(ByteBuffer buffer) {
+
+		long words = 0;
+
+		while(true) {
+			byte[] line = lines[nextRank()];
+			if(buffer.remaining() < line.length) break;
+			buffer.put(line);
+			words++;
+		}
+
+		return words;
+
+	}
+
+	/**
+	 * Writes a corpus file
+	 *
+	 * @param args Output file, size in megabytes, seed (default 1), vocabulary size and Zipf exponent
+	 * @throws IOException If the file can not be written
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 2) {
+			System.err.println("Usage: RSLPCorpusGenerator <output file> <size in MB> [seed] [vocabulary size] [exponent]");
+			return;
+		}
+
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+		int vocabularySize = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_VOCABULARY_SIZE;
+		double exponent = args.length > 4 ? Double.parseDouble(args[4]) : DEFAULT_EXPONENT;
+
+		RSLPCorpusGenerator generator = new RSLPCorpusGenerator(seed, vocabularySize, exponent, getExampleStems());
+
+		long start = System.nanoTime();
+		OutputStream out = new FileOutputStream(args[0]);
+		long words;
+		try {
+			words = generator.write(out, Long.parseLong(args[1]) << 20);
+		} finally {
+			out.close();
+		}
+
+		System.out.println(words + " words (" + generator.getVocabularySize() + " distinct) in " + (System.nanoTime() - start) / 1000000 + " ms");
+
+	}
+
+}
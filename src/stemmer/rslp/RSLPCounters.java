@@ -0,0 +1,271 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPCounters.java                                                           */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Counts the work made by {@link RSLPAutomata} or {@link RSLPList} for each word, in each step, to compare the approaches as
+ * described in the article (number of comparisons instead of time, so the results do not depend on the hardware).
+ * The counting is enabled with setCounters of the stemmer and disabled (the default) with null.
+ *
+ * <p>The counts of the current word are accumulated while the word is processed. When the stemmer finishes the word,
+ * the counts are added to the distribution of each step and metric, used by {@link #report()}.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPCounters {
+
+	/** Characters of the word compared with the suffixes of the rules (not counting the exception lists) */
+	public static final int CHAR_COMPARISONS = 0;
+
+	/** State transitions made by the automatas, one for each character read (including the transition to the stop state) */
+	public static final int TRANSITIONS = 1;
+
+	/** Calls of endsWith made to compare a suffix with the end of the word */
+	public static final int ENDS_WITH_CALLS = 2;
+
+	/** Searches in the exception lists of {@link RSLPException} */
+	public static final int EXCEPTION_LOOKUPS = 3;
+
+	/** Index used for the sum of all steps, after the step constants of {@link RSLPOutcome} */
+	public static final int WHOLE_WORD = 7;
+
+	private static final int METRICS = 4;
+
+	private static final int STEPS = 8;
+
+	/** Biggest value stored exactly in the distributions, bigger values are stored in the last position */
+	private static final int MAX_VALUE = 1023;
+
+	private static final String[] METRIC_NAMES = {"char comparisons", "transitions", "endsWith calls", "exception lookups"};
+
+	private static final String[] STEP_NAMES = {"plural", "feminine", "degree", "adverb", "noun", "verb", "vowel", "word"};
+
+	/** Counts of the word being processed */
+	private final long[][] current = new long[STEPS][METRICS];
+
+	/** For each step and metric, how many words had each count */
+	private final long[][][] distribution = new long[STEPS][METRICS][MAX_VALUE + 1];
+
+	/** Sum of the counts of all words */
+	private final long[][] totals = new long[STEPS][METRICS];
+
+	/** Number of words processed */
+	private long words;
+
+	/**
+	 * Adds one to the metric of the step for the current word
+	 *
+	 * @param step One of the step constants of {@link RSLPOutcome}
+	 * @param metric One of the metric constants of this class
+	 */
+	public void count(int step, int metric) {
+		current[step][metric]++;
+	}
+
+	/**
+	 * Finishes the current word, adding its counts to the distributions
+	 */
+	public void endWord() {
+
+		for(int metric=0; metric < METRICS; metric++) {
+			current[WHOLE_WORD][metric] = 0;
+			for(int step=0; step < WHOLE_WORD; step++) {
+				current[WHOLE_WORD][metric] += current[step][metric];
+			}
+		}
+
+		for(int step=0; step < STEPS; step++) {
+			for(int metric=0; metric < METRICS; metric++) {
+				long value = current[step][metric];
+				totals[step][metric] += value;
+				distribution[step][metric][(int) Math.min(value, MAX_VALUE)]++;
+				current[step][metric] = 0;
+			}
+		}
+
+		words++;
+
+	}
+
+	/**
+	 * Clears all the counts and distributions
+	 */
+	public void reset() {
+		for(int step=0; step < STEPS; step++) {
+			for(int metric=0; metric < METRICS; metric++) {
+				current[step][metric] = 0;
+				totals[step][metric] = 0;
+				java.util.Arrays.fill(distribution[step][metric], 0);
+			}
+		}
+		words = 0;
+	}
+
+	/**
+	 * @return Number of words processed
+	 */
+	public long getWords() {
+		return words;
+	}
+
+	/**
+	 * @param step One of the step constants of {@link RSLPOutcome} or {@link #WHOLE_WORD}
+	 * @param metric One of the metric constants of this class
+	 * @return Sum of the counts of all words
+	 */
+	public long getTotal(int step, int metric) {
+		return totals[step][metric];
+	}
+
+	/**
+	 * @param step One of the step constants of {@link RSLPOutcome} or {@link #WHOLE_WORD}
+	 * @param metric One of the metric constants of this class
+	 * @return Average count per word
+	 */
+	public double getMean(int step, int metric) {
+		return words == 0 ? 0 : (double) totals[step][metric] / words;
+	}
+
+	/**
+	 * @param step One of the step constants of {@link RSLPOutcome} or {@link #WHOLE_WORD}
+	 * @param metric One of the metric constants of this class
+	 * @param percentile Value between 0 and 100
+	 * @return The smallest count that is bigger or equal to the count of the given percentage of the words
+	 */
+	public int getPercentile(int step, int metric, double percentile) {
+
+		long[] values = distribution[step][metric];
+		long target = (long) Math.ceil(words * percentile / 100.0);
+		long accumulated = 0;
+
+		for(int value=0; value <= MAX_VALUE; value++) {
+			accumulated += values[value];
+			if(accumulated >= target && accumulated > 0) return value;
+		}
+
+		return MAX_VALUE;
+
+	}
+
+	/**
+	 * Describes the distributions of all steps and metrics, one line for each pair
+	 *
+	 * @return A table with total, mean, median, 90th and 99th percentiles and maximum of each step and metric
+	 */
+	public String report() {
+
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%-10s %-18s %12s %8s %6s %6s %6s %6s%n", "step", "metric", "total", "mean", "p50", "p90", "p99", "max"));
+
+		for(int step=0; step < STEPS; step++) {
+			for(int metric=0; metric < METRICS; metric++) {
+				if(totals[step][metric] == 0) continue;
+				report.append(String.format("%-10s %-18s %12d %8.2f %6d %6d %6d %6d%n",
+					STEP_NAMES[step], METRIC_NAMES[metric], totals[step][metric], getMean(step, metric),
+					getPercentile(step, metric, 50), getPercentile(step, metric, 90), getPercentile(step, metric, 99), getPercentile(step, metric, 100)));
+			}
+		}
+
+		report.append(words).append(" words\n");
+
+		return report.toString();
+
+	}
+
+	/**
+	 * Wraps the word given to a step of the automata, so the characters read by the step are counted
+	 *
+	 * @param step One of the step constants of {@link RSLPOutcome}
+	 * @param word Word to be processed
+	 * @return The word that counts the characters read
+	 */
+	CharSequence watch(int step, CharSequence word) {
+		return new RSLPCountingWord(this, step, word);
+	}
+
+
+	/**
+	 * Counts the comparisons made by both approaches for each word of a corpus (one word per line) and prints the distributions
+	 *
+	 * @param args The corpus file
+	 * @throws IOException If the file can not be read
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 1) {
+			System.err.println("Usage: RSLPCounters <corpus file>");
+			return;
+		}
+
+		RSLPCounters automataCounters = new RSLPCounters();
+		RSLPAutomata automata = new RSLPAutomata();
+		automata.setCounters(automataCounters);
+
+		RSLPCounters listCounters = new RSLPCounters();
+		RSLPList list = new RSLPList();
+		list.setCounters(listCounters);
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(args[0]), StandardCharsets.UTF_8));
+		try {
+			String line;
+			while((line = reader.readLine()) != null) {
+				line = line.trim();
+				if(line.isEmpty()) continue;
+				automata.apply(line, RSLPAutomata.KEEP_ACCENTS);
+				list.apply(line, RSLPList.KEEP_ACCENTS);
+			}
+		} finally {
+			reader.close();
+		}
+
+		System.out.println("RSLPAutomata");
+		System.out.print(automataCounters.report());
+		System.out.println();
+		System.out.println("RSLPList");
+		System.out.print(listCounters.report());
+
+	}
+
+}
@@ -0,0 +1,116 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPCountingWord.java                                                       */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+/**
+ * Word given to a step of the automata when the counting is enabled. Each character read by the automata is counted as a
+ * comparison and a state transition, and the searches in the exception lists are counted without counting their characters.
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+final class RSLPCountingWord implements RSLPExceptionLookup {
+
+	private final RSLPCounters counters;
+
+	private final int step;
+
+	private final CharSequence word;
+
+	RSLPCountingWord(RSLPCounters counters, int step, CharSequence word) {
+		this.counters = counters;
+		this.step = step;
+		this.word = word;
+	}
+
+	/**
+	 * Searches the word in the exception list, counting only the search
+	 *
+	 * @param exceptions List where is to search for the word
+	 * @return TRUE if the word is found
+	 */
+	public boolean isException(String[] exceptions) {
+		counters.count(step, RSLPCounters.EXCEPTION_LOOKUPS);
+		return RSLPException.isException(word, exceptions);
+	}
+
+	/**
+	 * Checks if the word ends with the given suffix in the same way of {@link String#endsWith(String)}, counting the call and
+	 * the characters compared (until the first difference)
+	 *
+	 * @param counters Where the comparisons are counted
+	 * @param step One of the step constants of {@link RSLPOutcome}
+	 * @param word Word to be compared
+	 * @param suffix Suffix to be compared
+	 * @return TRUE if the word ends with the suffix
+	 */
+	static boolean endsWith(RSLPCounters counters, int step, CharSequence word, String suffix) {
+
+		counters.count(step, RSLPCounters.ENDS_WITH_CALLS);
+
+		int start = word.length() - suffix.length();
+		if(start < 0) return false;
+
+		for(int i=0; i < suffix.length(); i++) {
+			counters.count(step, RSLPCounters.CHAR_COMPARISONS);
+			if(word.charAt(start + i) != suffix.charAt(i)) return false;
+		}
+
+		return true;
+
+	}
+
+	public int length() {
+		return word.length();
+	}
+
+	public char charAt(int index) {
+		counters.count(step, RSLPCounters.CHAR_COMPARISONS);
+		counters.count(step, RSLPCounters.TRANSITIONS);
+		return word.charAt(index);
+	}
+
+	public CharSequence subSequence(int start, int end) {
+		return word.subSequence(start, end);
+	}
+
+	public String toString() {
+		return word.toString();
+	}
+
+}
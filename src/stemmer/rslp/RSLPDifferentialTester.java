@@ -0,0 +1,533 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPDifferentialTester.java                                                 */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the results of other stemmers with the results of {@link RSLPAutomata#apply(String, boolean)}, keeping and removing
+ * the accents, for a large number of generated words. The words are built from the rules of {@link RSLPSuffixStrippingRules}:
+ * random stems, with lengths around the minimum stem size of the rules, followed by one or more suffixes, sometimes with accents,
+ * besides the examples of the rules and the words of the exception lists. The words where a stemmer differs are reduced, removing
+ * characters while the difference remains, so the report shows small counterexamples.
+ *
+ * <p>The generation is deterministic: the same seed and number of words always produce the same words.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPDifferentialTester {
+
+	/**
+	 * Stemmer compared with the automatas
+	 */
+	public interface Engine {
+
+		/**
+		 * @param word Word to be processed
+		 * @return Processed word
+		 */
+		String apply(String word);
+
+	}
+
+	/**
+	 * Creates the engines used by each thread of the test. Engines that are not thread safe must be created at each call.
+	 */
+	public interface EngineFactory {
+
+		/**
+		 * @param accents {@link RSLPAutomata#KEEP_ACCENTS} or {@link RSLPAutomata#REMOVE_ACCENTS}
+		 * @return An engine that processes the words with the given option
+		 */
+		Engine newEngine(boolean accents);
+
+	}
+
+	/** Number of words generated and tested at a time by each thread */
+	private static final int BATCH_SIZE = 50000;
+
+	/** Number of counterexamples kept for each engine */
+	private static final int MAX_COUNTEREXAMPLES = 20;
+
+	private static final String CONSONANTS = "bcdfghjlmnpqrstvxz";
+
+	private static final String VOWELS = "aeiou";
+
+	/** Accented versions of the characters, in the same order of PLAIN */
+	private static final String[] ACCENTED = {"", "", "", "", "", ""};
+
+	private static final String PLAIN = "aeiouc";
+
+	private static final String[] EXCEPTIONS = RSLPException.getAllExceptions();
+
+	/**
+	 * Words that the engines stemmed wrongly in the adverb step (the suffix repeated in the word and residual words smaller than
+	 * the stem size of the rule), with the expected result of the adverb step and the expected stem
+	 */
+	private static final String[][] REGRESSIONS = {
+		{"mentemente", "mente", "ment"},
+		{"felizmentemente", "felizmente", "felizm"},
+		{"demente", "demente", "dement"},
+		{"somente", "somente", "soment"},
+		{"mente", "mente", "ment"},
+		{"experimente", "experimente", "experim"},
+		{"clementemente", "clemente", "clem"}
+	};
+
+	private static final RSLPStrippingRule[] RULES;
+
+	static {
+		List<RSLPStrippingRule> rules = new ArrayList<RSLPStrippingRule>();
+		for(int step=RSLPOutcome.PLURAL_REDUCTION; step <= RSLPOutcome.VOWEL_REMOVE; step++) {
+			for(RSLPStrippingRule rule : RSLPOutcome.getRules(step)) {
+				rules.add(rule);
+			}
+		}
+		RULES = rules.toArray(new RSLPStrippingRule[rules.size()]);
+	}
+
+	private final Map<String, EngineFactory> engines = new LinkedHashMap<String, EngineFactory>();
+
+	private final Map<String, Report> reports = new LinkedHashMap<String, Report>();
+
+	/**
+	 * Adds an engine to be compared with the automatas
+	 *
+	 * @param name Name used in the report
+	 * @param factory Creates the engines used by each thread
+	 */
+	public void register(String name, EngineFactory factory) {
+		engines.put(name, factory);
+		reports.put(name, new Report(name));
+	}
+
+	/**
+	 * Adds the stemmers of this package: {@link RSLPList}, {@link RSLPAutomata#applyOutcome(CharSequence)},
+	 * {@link RSLPStemDictionary} and {@link RSLPStemCache} (the last two shared by all threads)
+	 */
+	public void registerDefaultEngines() {
+
+		register("RSLPList", new EngineFactory() {
+			public Engine newEngine(final boolean accents) {
+				final RSLPList list = new RSLPList();
+				return new Engine() {
+					public String apply(String word) {
+						return list.apply(word, accents);
+					}
+				};
+			}
+		});
+
+		register("RSLPAutomata.applyOutcome", new EngineFactory() {
+			public Engine newEngine(final boolean accents) {
+				final RSLPAutomata automata = new RSLPAutomata();
+				return new Engine() {
+					public String apply(String word) {
+						String stem = RSLPOutcome.apply(word, automata.applyOutcome(word));
+						return accents == RSLPAutomata.KEEP_ACCENTS ? stem : automata.removeAccents(stem);
+					}
+				};
+			}
+		});
+
+		register("RSLPStemDictionary", new EngineFactory() {
+			private final RSLPStemDictionary[] dictionaries = {new RSLPStemDictionary(RSLPAutomata.REMOVE_ACCENTS), new RSLPStemDictionary(RSLPAutomata.KEEP_ACCENTS)};
+			public Engine newEngine(boolean accents) {
+				final RSLPStemDictionary dictionary = dictionaries[accents ? 1 : 0];
+				return new Engine() {
+					public String apply(String word) {
+						return dictionary.getStem(dictionary.apply(word));
+					}
+				};
+			}
+		});
+
+		register("RSLPStemCache", new EngineFactory() {
+			private final RSLPStemCache[] caches = {new RSLPStemCache(100000, RSLPAutomata.REMOVE_ACCENTS), new RSLPStemCache(100000, RSLPAutomata.KEEP_ACCENTS)};
+			public Engine newEngine(boolean accents) {
+				final RSLPStemCache cache = caches[accents ? 1 : 0];
+				return new Engine() {
+					public String apply(String word) {
+						return cache.apply(word);
+					}
+				};
+			}
+		});
+
+	}
+
+	/**
+	 * Generates the words and compares all the registered engines with the automatas, using all the processors
+	 *
+	 * @param words Number of generated words (the examples of the rules and the exception words are tested besides them)
+	 * @param seed Seed of the generation
+	 * @return One report for each registered engine, in the order of registration
+	 * @throws InterruptedException If the thread is interrupted while waiting for the test
+	 */
+	public List<Report> run(long words, final long seed) throws InterruptedException {
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+
+			List<Future<?>> tasks = new ArrayList<Future<?>>();
+
+			//the fixed words: examples of the rules, words of the exception lists and regressions
+			final List<String> fixed = new ArrayList<String>();
+			for(RSLPStrippingRule rule : RULES) {
+				fixed.add(rule.getExample());
+			}
+			for(String word : EXCEPTIONS) {
+				fixed.add(word);
+			}
+			for(String[] regression : REGRESSIONS) {
+				fixed.add(regression[0]);
+			}
+			tasks.add(executor.submit(new Runnable() {
+				public void run() {
+					test(fixed);
+				}
+			}));
+
+			for(long start=0; start < words; start += BATCH_SIZE) {
+				final long batch = start / BATCH_SIZE;
+				final int size = (int) Math.min(BATCH_SIZE, words - start);
+				tasks.add(executor.submit(new Runnable() {
+					public void run() {
+						test(generate(new Random(seed ^ (batch * 0x9E3779B97F4A7C15L)), size));
+					}
+				}));
+			}
+
+			for(Future<?> task : tasks) {
+				try {
+					task.get();
+				} catch(ExecutionException e) {
+					throw new IllegalStateException(e.getCause());
+				}
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return new ArrayList<Report>(reports.values());
+
+	}
+
+	/**
+	 * Checks the expected results of the regression words in both engines, in the adverb step and in the whole stemmer
+	 *
+	 * @return Report with the results that differ from the expected ones
+	 */
+	public static Report checkRegressions() {
+
+		RSLPAutomata automata = new RSLPAutomata();
+		RSLPList list = new RSLPList();
+		Report report = new Report("Regressions");
+
+		for(String[] regression : REGRESSIONS) {
+			String word = regression[0];
+			report.expect(word + " (RSLPAutomata.adverbReduction)", regression[1], automata.adverbReduction(word));
+			report.expect(word + " (RSLPList.adverbReduction)", regression[1], list.adverbReduction(word));
+			report.expect(word + " (RSLPAutomata.apply)", regression[2], automata.apply(word, RSLPAutomata.KEEP_ACCENTS));
+			report.expect(word + " (RSLPList.apply)", regression[2], list.apply(word, RSLPAutomata.KEEP_ACCENTS));
+		}
+
+		return report;
+
+	}
+
+	/**
+	 * Generates candidate words
+	 *
+	 * @param random Source of the random choices
+	 * @param count Number of words
+	 * @return The generated words
+	 */
+	static List<String> generate(Random random, int count) {
+
+		List<String> words = new ArrayList<String>(count);
+		StringBuilder word = new StringBuilder();
+
+		while(words.size() < count) {
+
+			word.setLength(0);
+			int kind = random.nextInt(10);
+
+			if(kind == 0) {
+				//an exception word, sometimes followed by a suffix
+				word.append(EXCEPTIONS[random.nextInt(EXCEPTIONS.length)]);
+				if(random.nextBoolean()) {
+					word.append(RULES[random.nextInt(RULES.length)].getSuffix());
+				}
+			}else if(kind == 1) {
+				//a random stem alone
+				appendStem(random, word, 1 + random.nextInt(10));
+			}else {
+				//a stem with length around the minimum stem size of the rule, followed by one to three suffixes
+				RSLPStrippingRule rule = RULES[random.nextInt(RULES.length)];
+				appendStem(random, word, Math.max(rule.getStemSize() - rule.getReplacement().length() + random.nextInt(5) - 2, 0));
+				word.append(rule.getSuffix());
+				for(int suffixes=random.nextInt(3); suffixes > 0; suffixes--) {
+					word.append(RULES[random.nextInt(RULES.length)].getSuffix());
+				}
+			}
+
+			//accented variants
+			if(random.nextInt(4) == 0) {
+				int position = random.nextInt(word.length());
+				int plain = PLAIN.indexOf(word.charAt(position));
+				if(plain >= 0) {
+					String accented = ACCENTED[plain];
+					word.setCharAt(position, accented.charAt(random.nextInt(accented.length())));
+				}
+			}
+
+			if(word.length() > 0) {
+				words.add(word.toString());
+			}
+
+		}
+
+		return words;
+
+	}
+
+	private static void appendStem(Random random, StringBuilder word, int length) {
+		boolean vowel = random.nextBoolean();
+		for(int i=0; i < length; i++) {
+			word.append(vowel ? VOWELS.charAt(random.nextInt(VOWELS.length())) : CONSONANTS.charAt(random.nextInt(CONSONANTS.length())));
+			vowel = !vowel;
+		}
+	}
+
+	/**
+	 * Compares all the engines with the automatas for the given words, with the engines of the current thread
+	 */
+	private void test(List<String> words) {
+
+		boolean[] options = {RSLPAutomata.KEEP_ACCENTS, RSLPAutomata.REMOVE_ACCENTS};
+
+		for(boolean accents : options) {
+
+			Engine reference = automataEngine(accents);
+
+			for(Map.Entry<String, EngineFactory> entry : engines.entrySet()) {
+
+				Engine engine = entry.getValue().newEngine(accents);
+				Report report = reports.get(entry.getKey());
+				long mismatches = 0;
+
+				for(String word : words) {
+					if(differs(reference, engine, word)) {
+						mismatches++;
+						if(report.isFull() == false) {
+							report.addCounterexample(minimize(reference, engine, word), word, accents, reference, engine);
+						}
+					}
+				}
+
+				report.checked.addAndGet(words.size());
+				report.mismatches.addAndGet(mismatches);
+
+			}
+
+		}
+
+	}
+
+	private static Engine automataEngine(final boolean accents) {
+		final RSLPAutomata automata = new RSLPAutomata();
+		return new Engine() {
+			public String apply(String word) {
+				return automata.apply(word, accents);
+			}
+		};
+	}
+
+	private static String result(Engine engine, String word) {
+		try {
+			return engine.apply(word);
+		} catch(RuntimeException e) {
+			return e.toString();
+		}
+	}
+
+	private static boolean differs(Engine reference, Engine engine, String word) {
+		return result(reference, word).equals(result(engine, word)) == false;
+	}
+
+	/**
+	 * Removes characters of the word while the engine still differs from the reference
+	 *
+	 * @return The smallest word found
+	 */
+	static String minimize(Engine reference, Engine engine, String word) {
+
+		boolean reduced = true;
+
+		while(reduced) {
+			reduced = false;
+			for(int i=0; i < word.length() && word.length() > 1; i++) {
+				String candidate = word.substring(0, i) + word.substring(i + 1);
+				if(differs(reference, engine, candidate)) {
+					word = candidate;
+					reduced = true;
+					i--;
+				}
+			}
+		}
+
+		return word;
+
+	}
+
+	/**
+	 * Result of the comparison of an engine with the automatas
+	 */
+	public static final class Report {
+
+		private final String name;
+
+		private final AtomicLong checked = new AtomicLong();
+
+		private final AtomicLong mismatches = new AtomicLong();
+
+		//minimized word and accents option -> description of the difference
+		private final Map<String, String> counterexamples = new LinkedHashMap<String, String>();
+
+		private Report(String name) {
+			this.name = name;
+		}
+
+		private synchronized boolean isFull() {
+			return counterexamples.size() >= MAX_COUNTEREXAMPLES;
+		}
+
+		private synchronized void addCounterexample(String word, String original, boolean accents, Engine reference, Engine engine) {
+			String key = word + (accents ? " (keeping accents)" : " (removing accents)");
+			if(counterexamples.containsKey(key) == false && isFull() == false) {
+				counterexamples.put(key, "expected '" + result(reference, word) + "', got '" + result(engine, word) + "' (reduced from '" + original + "')");
+			}
+		}
+
+		private synchronized void expect(String key, String expected, String result) {
+			checked.incrementAndGet();
+			if(expected.equals(result) == false) {
+				mismatches.incrementAndGet();
+				if(isFull() == false) {
+					counterexamples.put(key, "expected '" + expected + "', got '" + result + "'");
+				}
+			}
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return Number of comparisons (each word is compared keeping and removing the accents)
+		 */
+		public long getChecked() {
+			return checked.get();
+		}
+
+		public long getMismatches() {
+			return mismatches.get();
+		}
+
+		/**
+		 * @return The first counterexamples found, each one described in one line
+		 */
+		public synchronized List<String> getCounterexamples() {
+			List<String> lines = new ArrayList<String>();
+			for(Map.Entry<String, String> entry : counterexamples.entrySet()) {
+				lines.add(entry.getKey() + ": " + entry.getValue());
+			}
+			return lines;
+		}
+
+		public String toString() {
+			StringBuilder text = new StringBuilder();
+			text.append(name).append(": ").append(getMismatches()).append(" differences in ").append(getChecked()).append(" comparisons\n");
+			for(String line : getCounterexamples()) {
+				text.append("    ").append(line).append('\n');
+			}
+			return text.toString();
+		}
+
+	}
+
+	/**
+	 * Compares the stemmers of this package with the automatas
+	 *
+	 * @param args Number of generated words (default 1000000) and seed (default 1)
+	 * @throws InterruptedException If the thread is interrupted while waiting for the test
+	 */
+	public static void main(String[] args) throws InterruptedException {
+
+		long words = args.length > 0 ? Long.parseLong(args[0]) : 1000000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+
+		RSLPDifferentialTester tester = new RSLPDifferentialTester();
+		tester.registerDefaultEngines();
+
+		long start = System.nanoTime();
+		List<Report> reports = tester.run(words, seed);
+
+		System.out.print(checkRegressions());
+		for(Report report : reports) {
+			System.out.print(report);
+		}
+		System.out.println(words + " generated words, seed " + seed + ", " + (System.nanoTime() - start) / 1000000 + " ms");
+
+	}
+
+}
@@ -0,0 +1,156 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPEvents.java                                                             */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+/**
+ * Reports what the stemmers do (batches stemmed, cache evictions, precomputed stems loaded and slow words) to a listener, as the
+ * one of {@link RSLPFlightRecorder}, which records them in JDK Flight Recorder.
+ *
+ * <p>The reports are disabled by default (no listener). While they are disabled, each point that reports an event only reads one
+ * volatile field, and nothing is measured or created for the event.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public final class RSLPEvents {
+
+	/** Time (nanoseconds) that makes a word slow when no other is informed */
+	public static final long DEFAULT_SLOW_WORD_THRESHOLD = 50000;
+
+	private static volatile Listener listener = null;
+
+	private static volatile long slowWordThreshold = DEFAULT_SLOW_WORD_THRESHOLD;
+
+	private RSLPEvents() {
+	}
+
+	/**
+	 * Receiver of the events. The methods can be called by many threads at the same time, and the caller can be holding a lock,
+	 * so they must be fast and must not call the stemmers.
+	 */
+	public interface Listener {
+
+		/**
+		 * @param engine Name of the stemmer or of the stage that processed the batch
+		 * @param tokens Number of words of the batch
+		 * @param distinct Number of different words of the batch
+		 * @param nanos Time spent to process the batch
+		 */
+		void batchStemmed(String engine, int tokens, int distinct, long nanos);
+
+		/**
+		 * @param cache Name of the cache
+		 * @param word Word removed from the cache to give space to another one
+		 */
+		void cacheEvicted(String cache, String word);
+
+		/**
+		 * @param source Name of the file (or other source) of the stems
+		 * @param version Version of the rules of the stems (see {@link RSLPSuffixStrippingRules#VERSION})
+		 * @param words Number of words loaded
+		 */
+		void rulesLoaded(String source, long version, int words);
+
+		/**
+		 * @param word Processed word
+		 * @param stem Stem of the word
+		 * @param nanos Time spent to process the word, at least the threshold of {@link RSLPEvents#setSlowWordThreshold(long)}
+		 */
+		void slowWord(String word, String stem, long nanos);
+
+	}
+
+	/**
+	 * @param listener Receiver of the events, or null to disable them
+	 */
+	public static void setListener(Listener listener) {
+		RSLPEvents.listener = listener;
+	}
+
+	/**
+	 * @return Receiver of the events, or null if they are disabled
+	 */
+	public static Listener getListener() {
+		return listener;
+	}
+
+	/**
+	 * @return TRUE if there is a listener, so the events must be measured
+	 */
+	public static boolean isEnabled() {
+		return listener != null;
+	}
+
+	/**
+	 * @param nanos Time from which a word is reported as slow
+	 */
+	public static void setSlowWordThreshold(long nanos) {
+		slowWordThreshold = nanos;
+	}
+
+	/**
+	 * @return Time from which a word is reported as slow
+	 */
+	public static long getSlowWordThreshold() {
+		return slowWordThreshold;
+	}
+
+	static void batchStemmed(String engine, int tokens, int distinct, long nanos) {
+		Listener current = listener;
+		if(current != null) current.batchStemmed(engine, tokens, distinct, nanos);
+	}
+
+	static void cacheEvicted(String cache, String word) {
+		Listener current = listener;
+		if(current != null) current.cacheEvicted(cache, word);
+	}
+
+	static void rulesLoaded(String source, long version, int words) {
+		Listener current = listener;
+		if(current != null) current.rulesLoaded(source, version, words);
+	}
+
+	/**
+	 * Reports the word if it took at least the threshold
+	 */
+	static void wordStemmed(String word, String stem, long nanos) {
+		Listener current = listener;
+		if(current != null && nanos >= slowWordThreshold) current.slowWord(word, stem, nanos);
+	}
+
+}
@@ -37,6 +37,10 @@
 
 package stemmer.rslp;
 
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.TreeSet;
+
 /**
  * Presents the exceptions for each rule when exists. The exceptions were obtained at the link provided in the appendix A from the monograph 'Stemming para a lngua portuguesa: estudo, anlise e melhoria do algoritmo RSLP'
  * 
@@ -150,7 +154,33 @@ public class RSLPException {
 		while(start <= end) {
 			pointer = (end + start) / 2;
 			status = word.compareTo(exceptions[pointer]);
-			if(status == 0) return true;
+			if(status == 0) return found(exceptions);
+			else if(status > 0) start = pointer + 1;
+			else end = pointer - 1;
+		}
+		
+		return false;
+		
+	}
+	
+	/**
+	 * Search for a word in a list using binary search algorithm, without creating a String for the word
+	 * 
+	 * @param word Word to be searched
+	 * @param exceptions List where is to search for the given word
+	 * @return TRUE if the word is found
+	 */
+	public static boolean isException(CharSequence word, String[] exceptions) {
+		
+		int start = 0;
+		int end = exceptions.length - 1;
+		int pointer = 0;
+		int status = 0;
+		
+		while(start <= end) {
+			pointer = (end + start) / 2;
+			status = compare(word, exceptions[pointer]);
+			if(status == 0) return found(exceptions);
 			else if(status > 0) start = pointer + 1;
 			else end = pointer - 1;
 		}
@@ -159,4 +189,54 @@ public class RSLPException {
 		
 	}
 	
+	/**
+	 * Counts the word found in the list when there are active metrics (see {@link RSLPMetrics})
+	 * 
+	 * @return TRUE
+	 */
+	private static boolean found(String[] exceptions) {
+		RSLPMetrics.exceptionFound(exceptions);
+		return true;
+	}
+	
+	/**
+	 * Compares the word and the exception in the same way of {@link String#compareTo(String)}
+	 */
+	private static int compare(CharSequence word, String exception) {
+		
+		int length = Math.min(word.length(), exception.length());
+		
+		for(int i=0; i < length; i++) {
+			int difference = word.charAt(i) - exception.charAt(i);
+			if(difference != 0) return difference;
+		}
+		
+		return word.length() - exception.length();
+		
+	}
+	
+	/**
+	 * Joins all the exception lists of this class
+	 * 
+	 * @return The words of all lists, sorted and without repetitions
+	 */
+	static String[] getAllExceptions() {
+		
+		TreeSet<String> words = new TreeSet<String>();
+		
+		Field[] fields = RSLPException.class.getFields();
+		for(int i=0; i < fields.length; i++) {
+			if(fields[i].getType() == String[].class) {
+				try {
+					Collections.addAll(words, (String[]) fields[i].get(null));
+				} catch(IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		}
+		
+		return words.toArray(new String[words.size()]);
+		
+	}
+	
 }
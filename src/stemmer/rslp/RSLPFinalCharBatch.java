@@ -0,0 +1,248 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPFinalCharBatch.java                                                     */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+/**
+ * Stems a batch of words grouped by their last character. The automatas start by branching on the last character of the word,
+ * so a mixed batch keeps changing the path taken; in groups, the same path is taken many times in a row.
+ *
+ * <p>The words are copied to one array (a packed batch, each word with one free position after it, see
+ * {@link RSLPAutomata#stem(char[], int, int)}), their last characters are gathered in a second array and a counting sort
+ * gives the order of the groups, one for each Latin-1 character and one for the other words. Each group starts at the first
+ * step that can change a word ending in its character (see {@link RSLPStepFilter#getFirstStep(char)}), and the groups that no
+ * step can change (numbers, punctuation) are not stemmed. The stems are returned in the order of the given words, the same
+ * returned by {@link RSLPAutomata#apply(String, boolean)}.</p>
+ *
+ * <p>Instances keep their arrays between batches and are not thread safe.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPFinalCharBatch {
+
+	/** Group of the words that are empty or end in a character that is not Latin-1 */
+	private static final int OTHER = 256;
+
+	private final RSLPAutomata automata = new RSLPAutomata();
+
+	private final boolean accents;
+
+	/** Characters of the words, each one followed by a free position */
+	private char[] chars = new char[1024];
+
+	private int[] offsets = new int[64];
+
+	/** Group of each word */
+	private int[] groups = new int[64];
+
+	/** Positions of the words in the order of the groups */
+	private int[] order = new int[64];
+
+	/** Start of each group in {@link #order} */
+	private final int[] starts = new int[OTHER + 2];
+
+	/**
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPFinalCharBatch(boolean accents) {
+		this.accents = accents;
+	}
+
+	/**
+	 * Stems the words, grouped by their last character
+	 *
+	 * @param words Words to be processed
+	 * @return The stem of each word, in the order of the words
+	 */
+	public String[] stem(String[] words) {
+
+		int count = words.length;
+		pack(words);
+
+		//the last characters are gathered before any word is stemmed
+		for(int i=0; i < count; i++) {
+			int length = words[i].length();
+			char last = length == 0 ? 0 : chars[offsets[i] + length - 1];
+			groups[i] = length == 0 || last >= OTHER ? OTHER : last;
+		}
+
+		//counting sort of the positions by group
+		for(int group=0; group < starts.length; group++) {
+			starts[group] = 0;
+		}
+		for(int i=0; i < count; i++) {
+			starts[groups[i] + 1]++;
+		}
+		for(int group=1; group < starts.length; group++) {
+			starts[group] += starts[group - 1];
+		}
+		for(int i=0; i < count; i++) {
+			order[starts[groups[i]]++] = i;
+		}
+
+		String[] stems = new String[count];
+		int start = 0;
+
+		for(int group=0; group <= OTHER; group++) {
+
+			//after the sort, starts[group] is the end of the group
+			int end = starts[group];
+			int first = group == OTHER ? RSLPStepFilter.STEPS : RSLPStepFilter.getFirstStep((char) group);
+
+			for(int position=start; position < end; position++) {
+
+				int i = order[position];
+				String stem = words[i];
+
+				if(first < RSLPStepFilter.STEPS) {
+					int length = automata.stem(chars, offsets[i], stem.length(), first);
+					if(length >= 0) {
+						stem = new String(chars, offsets[i], length);
+					}
+				}
+
+				stems[i] = accents == RSLPAutomata.KEEP_ACCENTS ? stem : automata.removeAccents(stem);
+
+			}
+
+			start = end;
+
+		}
+
+		return stems;
+
+	}
+
+	/**
+	 * Copies the words to {@link #chars}, growing the arrays when needed
+	 */
+	private void pack(String[] words) {
+
+		int count = words.length;
+		if(offsets.length < count) {
+			int size = Math.max(count, offsets.length * 2);
+			offsets = new int[size];
+			groups = new int[size];
+			order = new int[size];
+		}
+
+		int total = 0;
+		for(int i=0; i < count; i++) {
+			total += words[i].length() + 1;
+		}
+		if(chars.length < total) {
+			chars = new char[Math.max(total, chars.length * 2)];
+		}
+
+		int offset = 0;
+		for(int i=0; i < count; i++) {
+			String word = words[i];
+			word.getChars(0, word.length(), chars, offset);
+			offsets[i] = offset;
+			offset += word.length() + 1;
+		}
+
+	}
+
+	/**
+	 * Compares the time of {@link RSLPAutomata#apply(String, boolean)} word by word with the grouped batches, for some batch
+	 * sizes, on words generated by {@link RSLPCorpusGenerator} mixed with numbers and punctuation
+	 *
+	 * @param args Number of words (default 2000000)
+	 */
+	public static void main(String[] args) {
+
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 2000000;
+
+		String[] others = {"1998", "42", ".", ",", "--", "R$10", "1\u00BA"};
+		RSLPCorpusGenerator generator = new RSLPCorpusGenerator(1);
+
+		String[] words = new String[size];
+		for(int i=0; i < size; i++) {
+			words[i] = i % 10 == 9 ? others[i / 10 % others.length] : generator.next();
+		}
+
+		int[] batchSizes = {64, 256, 1024, 4096, 16384};
+		RSLPAutomata automata = new RSLPAutomata();
+		RSLPFinalCharBatch grouped = new RSLPFinalCharBatch(RSLPAutomata.KEEP_ACCENTS);
+
+		System.out.println(String.format("%10s %16s %16s", "batch", "apply (ns/word)", "grouped (ns/word)"));
+
+		//the first run warms up
+		for(int run=0; run < 2; run++) {
+			for(int b=0; b < batchSizes.length; b++) {
+
+				int batchSize = batchSizes[b];
+				String[] batch = new String[batchSize];
+				long applyTime = 0;
+				long groupedTime = 0;
+
+				for(int from=0; from + batchSize <= size; from += batchSize) {
+
+					System.arraycopy(words, from, batch, 0, batchSize);
+
+					long start = System.nanoTime();
+					String[] expected = new String[batchSize];
+					for(int i=0; i < batchSize; i++) {
+						expected[i] = automata.apply(batch[i], RSLPAutomata.KEEP_ACCENTS);
+					}
+					applyTime += System.nanoTime() - start;
+
+					start = System.nanoTime();
+					String[] stems = grouped.stem(batch);
+					groupedTime += System.nanoTime() - start;
+
+					for(int i=0; i < batchSize; i++) {
+						if(stems[i].equals(expected[i]) == false) {
+							throw new IllegalStateException(batch[i] + ": " + stems[i] + " instead of " + expected[i]);
+						}
+					}
+
+				}
+
+				if(run == 1) {
+					int stemmed = size / batchSize * batchSize;
+					System.out.println(String.format("%10d %16.1f %16.1f", batchSize, (double) applyTime / stemmed, (double) groupedTime / stemmed));
+				}
+
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,253 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPFlightRecorder.java                                                     */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records the events of {@link RSLPEvents} in JDK Flight Recorder, so the stemming can be compared with the garbage collection
+ * and the allocation of the same recording:
+ *
+ * <pre>
+ * RSLPFlightRecorder.install();
+ * //java -XX:StartFlightRecording=filename=rslp.jfr ...
+ * //jfr print --events stemmer.rslp.BatchStemmed rslp.jfr
+ * </pre>
+ *
+ * <p>The event types are {@link #BATCH_STEMMED}, {@link #CACHE_EVICTED}, {@link #RULES_LOADED} and {@link #SLOW_WORD}, in the
+ * category "RSLP Stemmer". They are enabled by the settings of the recording as any other event.</p>
+ *
+ * <p>The API of Flight Recorder (<code>jdk.jfr</code>) is not part of Java 8, so the event types are created with
+ * <code>jdk.jfr.EventFactory</code> through reflection: in a JVM without it, {@link #install()} returns FALSE and the events
+ * remain disabled. While no recording is running, an event only creates the object of the event.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public final class RSLPFlightRecorder implements RSLPEvents.Listener {
+
+	/** Name of the event of a batch of words processed together */
+	public static final String BATCH_STEMMED = "stemmer.rslp.BatchStemmed";
+
+	/** Name of the event of a word removed from a cache */
+	public static final String CACHE_EVICTED = "stemmer.rslp.CacheEvicted";
+
+	/** Name of the event of precomputed stems loaded */
+	public static final String RULES_LOADED = "stemmer.rslp.RulesLoaded";
+
+	/** Name of the event of a word that took more than the threshold of {@link RSLPEvents#setSlowWordThreshold(long)} */
+	public static final String SLOW_WORD = "stemmer.rslp.SlowWord";
+
+	private static final String[] CATEGORY = {"RSLP Stemmer"};
+
+	private final Class<?> annotationElement;
+
+	private final Class<?> valueDescriptor;
+
+	private final Method create;
+
+	private final Method newEvent;
+
+	private final Method isEnabled;
+
+	private final Method set;
+
+	private final Method commit;
+
+	private final Object batchStemmed;
+
+	private final Object cacheEvicted;
+
+	private final Object rulesLoaded;
+
+	private final Object slowWord;
+
+	private RSLPFlightRecorder() throws ReflectiveOperationException {
+
+		this.annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+		this.valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+
+		Class<?> factory = Class.forName("jdk.jfr.EventFactory");
+		Class<?> event = Class.forName("jdk.jfr.Event");
+
+		this.create = factory.getMethod("create", List.class, List.class);
+		this.newEvent = factory.getMethod("newEvent");
+		this.isEnabled = event.getMethod("isEnabled");
+		this.set = event.getMethod("set", int.class, Object.class);
+		this.commit = event.getMethod("commit");
+
+		this.batchStemmed = createType(BATCH_STEMMED, "Batch Stemmed", "Batch of words processed together",
+			field(String.class, "engine", "Engine"),
+			field(int.class, "tokens", "Tokens"),
+			field(int.class, "distinct", "Distinct Words"),
+			timespan("time", "Time"));
+
+		this.cacheEvicted = createType(CACHE_EVICTED, "Cache Evicted", "Word removed from a cache of stems",
+			field(String.class, "cache", "Cache"),
+			field(String.class, "word", "Word"));
+
+		this.rulesLoaded = createType(RULES_LOADED, "Rules Loaded", "Precomputed stems loaded for a version of the rules",
+			field(String.class, "source", "Source"),
+			field(long.class, "version", "Rule Set Version"),
+			field(int.class, "words", "Words"));
+
+		this.slowWord = createType(SLOW_WORD, "Slow Word", "Word that took more than the threshold to be stemmed",
+			field(String.class, "word", "Word"),
+			field(String.class, "stem", "Stem"),
+			timespan("time", "Time"));
+
+	}
+
+	/**
+	 * Makes the events of {@link RSLPEvents} be recorded by Flight Recorder
+	 *
+	 * @return FALSE if the JVM has no Flight Recorder API, and then nothing is changed
+	 */
+	public static boolean install() {
+
+		try {
+			RSLPEvents.setListener(new RSLPFlightRecorder());
+			return true;
+		} catch(ReflectiveOperationException e) {
+			return false;
+		} catch(LinkageError e) {
+			return false;
+		}
+
+	}
+
+	/**
+	 * @return TRUE if the events are being sent to Flight Recorder
+	 */
+	public static boolean isInstalled() {
+		return RSLPEvents.getListener() instanceof RSLPFlightRecorder;
+	}
+
+	/**
+	 * Stops sending the events to Flight Recorder
+	 */
+	public static void uninstall() {
+		if(isInstalled()) RSLPEvents.setListener(null);
+	}
+
+	public void batchStemmed(String engine, int tokens, int distinct, long nanos) {
+		commit(batchStemmed, engine, tokens, distinct, nanos);
+	}
+
+	public void cacheEvicted(String cache, String word) {
+		commit(cacheEvicted, cache, word);
+	}
+
+	public void rulesLoaded(String source, long version, int words) {
+		commit(rulesLoaded, source, version, words);
+	}
+
+	public void slowWord(String word, String stem, long nanos) {
+		commit(slowWord, word, stem, nanos);
+	}
+
+	/**
+	 * Creates an event of the type and commits it with the given values of the fields, if the type is enabled
+	 */
+	private void commit(Object type, Object... values) {
+
+		try {
+
+			Object event = newEvent.invoke(type);
+			if(((Boolean) isEnabled.invoke(event)).booleanValue() == false) return;
+
+			for(int i=0; i < values.length; i++) {
+				set.invoke(event, i, values[i]);
+			}
+			commit.invoke(event);
+
+		} catch(IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		} catch(InvocationTargetException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+
+	}
+
+	/**
+	 * @return The factory of the events of the type
+	 */
+	private Object createType(String name, String label, String description, Object... fields) throws ReflectiveOperationException {
+
+		List<Object> annotations = new ArrayList<Object>();
+		annotations.add(annotation("jdk.jfr.Name", name));
+		annotations.add(annotation("jdk.jfr.Label", label));
+		annotations.add(annotation("jdk.jfr.Description", description));
+		annotations.add(annotation("jdk.jfr.Category", CATEGORY));
+
+		return create.invoke(null, annotations, Arrays.asList(fields));
+
+	}
+
+	/**
+	 * @return The description of a field of an event
+	 */
+	private Object field(Class<?> type, String name, String label) throws ReflectiveOperationException {
+		return descriptor(type, name, annotation("jdk.jfr.Label", label));
+	}
+
+	/**
+	 * @return The description of a field of an event with a time in nanoseconds
+	 */
+	private Object timespan(String name, String label) throws ReflectiveOperationException {
+		return descriptor(long.class, name, annotation("jdk.jfr.Label", label), annotation("jdk.jfr.Timespan", "NANOSECONDS"));
+	}
+
+	private Object descriptor(Class<?> type, String name, Object... annotations) throws ReflectiveOperationException {
+		Constructor<?> constructor = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+		return constructor.newInstance(type, name, Arrays.asList(annotations));
+	}
+
+	private Object annotation(String type, Object value) throws ReflectiveOperationException {
+		Class<? extends Annotation> annotationType = Class.forName(type).asSubclass(Annotation.class);
+		Constructor<?> constructor = annotationElement.getConstructor(Class.class, Object.class);
+		return constructor.newInstance(annotationType, value);
+	}
+
+}
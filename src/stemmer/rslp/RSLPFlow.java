@@ -0,0 +1,342 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPFlow.java                                                               */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Interfaces of the reactive streams used by {@link RSLPStemProcessor}. They have the same methods and contracts of the interfaces
+ * of <code>java.util.concurrent.Flow</code> (Java 9), which is not available in Java 8, so adapting one to the other only
+ * forwards the calls.
+ *
+ * <p>These are copies, not the types of the JDK, so a {@link RSLPStemProcessor} is given to a <code>Flow.Publisher</code>
+ * (for example a <code>SubmissionPublisher</code>) through {@link #asFlowProcessor(Processor)}. The adapter is built with
+ * reflection when the JVM has <code>java.util.concurrent.Flow</code>, so this project is still compiled for Java 8:</p>
+ *
+ * <pre>
+ * Flow.Processor&lt;CharSequence, RSLPStem&gt; stage = (Flow.Processor&lt;CharSequence, RSLPStem&gt;) RSLPFlow.asFlowProcessor(RSLPStemProcessor.forWords(true));
+ * publisher.subscribe(stage);
+ * stage.subscribe(subscriber);
+ * </pre>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public final class RSLPFlow {
+
+	private RSLPFlow() {
+	}
+
+	/**
+	 * Informs if the JVM has <code>java.util.concurrent.Flow</code> (Java 9 or newer), needed by {@link #asFlowProcessor(Processor)}
+	 *
+	 * @return TRUE if the adapter can be created
+	 */
+	public static boolean isFlowAvailable() {
+		return FlowTypes.PROCESSOR != null;
+	}
+
+	/**
+	 * Adapts the processor to <code>java.util.concurrent.Flow.Processor</code>: each call received by the adapter is forwarded to
+	 * the processor, and the subscription and subscribers given to it are adapted in the same way.
+	 *
+	 * @param processor Processor to be adapted
+	 * @return An instance of <code>Flow.Processor&lt;T, R&gt;</code>, to be cast by the caller
+	 * @throws UnsupportedOperationException If the JVM does not have <code>java.util.concurrent.Flow</code>
+	 */
+	public static <T, R> Object asFlowProcessor(final Processor<T, R> processor) {
+
+		if(isFlowAvailable() == false) {
+			throw new UnsupportedOperationException("java.util.concurrent.Flow is available since Java 9");
+		}
+
+		return proxy(FlowTypes.PROCESSOR, processor, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) {
+
+				String name = method.getName();
+
+				if(name.equals("onSubscribe")) {
+					processor.onSubscribe(fromFlowSubscription(args[0]));
+				}else if(name.equals("onNext")) {
+					processor.onNext(RSLPFlow.<T>cast(args[0]));
+				}else if(name.equals("onError")) {
+					processor.onError((Throwable) args[0]);
+				}else if(name.equals("onComplete")) {
+					processor.onComplete();
+				}else if(name.equals("subscribe")) {
+					processor.subscribe(RSLPFlow.<R>fromFlowSubscriber(args[0]));
+				}
+
+				return null;
+
+			}
+		});
+
+	}
+
+	/**
+	 * @param subscription A <code>Flow.Subscription</code>
+	 * @return Subscription that forwards the calls to the given one
+	 */
+	private static Subscription fromFlowSubscription(final Object subscription) {
+		return new Subscription() {
+			public void request(long n) {
+				call(FlowTypes.REQUEST, subscription, n);
+			}
+			public void cancel() {
+				call(FlowTypes.CANCEL, subscription);
+			}
+		};
+	}
+
+	/**
+	 * @param subscriber A <code>Flow.Subscriber</code>
+	 * @return Subscriber that forwards the calls to the given one
+	 */
+	private static <R> Subscriber<R> fromFlowSubscriber(final Object subscriber) {
+		return new Subscriber<R>() {
+			public void onSubscribe(Subscription subscription) {
+				call(FlowTypes.ON_SUBSCRIBE, subscriber, toFlowSubscription(subscription));
+			}
+			public void onNext(R item) {
+				call(FlowTypes.ON_NEXT, subscriber, item);
+			}
+			public void onError(Throwable throwable) {
+				call(FlowTypes.ON_ERROR, subscriber, throwable);
+			}
+			public void onComplete() {
+				call(FlowTypes.ON_COMPLETE, subscriber);
+			}
+		};
+	}
+
+	/**
+	 * @return A <code>Flow.Subscription</code> that forwards the calls to the given subscription
+	 */
+	private static Object toFlowSubscription(final Subscription subscription) {
+		return proxy(FlowTypes.SUBSCRIPTION, subscription, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				if(method.getName().equals("request")) {
+					subscription.request((Long) args[0]);
+				}else if(method.getName().equals("cancel")) {
+					subscription.cancel();
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Creates an instance of the interface whose methods are handled by the given handler, except the methods of Object, which
+	 * compare the instances by identity
+	 */
+	private static Object proxy(Class<?> type, final Object target, final InvocationHandler handler) {
+		return Proxy.newProxyInstance(RSLPFlow.class.getClassLoader(), new Class<?>[] {type}, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				if(method.getDeclaringClass() == Object.class) {
+					if(method.getName().equals("equals")) return proxy == args[0];
+					if(method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+					return "Flow adapter of " + target;
+				}
+				return handler.invoke(proxy, method, args);
+			}
+		});
+	}
+
+	/**
+	 * Calls a method of a Flow object, throwing the exceptions thrown by it as they are
+	 */
+	private static void call(Method method, Object target, Object... args) {
+		try {
+			method.invoke(target, args);
+		} catch(InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if(cause instanceof Error) throw (Error) cause;
+			throw new IllegalStateException(cause);
+		} catch(IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The items received by the adapter have the type declared by the Flow publisher, which the compiler can not check
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T cast(Object item) {
+		return (T) item;
+	}
+
+	/**
+	 * Interfaces of <code>java.util.concurrent.Flow</code> and their methods, loaded by name when the adapter is first used.
+	 * The fields are null if the JVM does not have them.
+	 */
+	private static final class FlowTypes {
+
+		static final Class<?> PROCESSOR;
+
+		static final Class<?> SUBSCRIPTION;
+
+		static final Method REQUEST;
+
+		static final Method CANCEL;
+
+		static final Method ON_SUBSCRIBE;
+
+		static final Method ON_NEXT;
+
+		static final Method ON_ERROR;
+
+		static final Method ON_COMPLETE;
+
+		static {
+
+			Class<?> processor = null;
+			Class<?> subscription = null;
+			Method[] methods = new Method[6];
+
+			try {
+				processor = Class.forName("java.util.concurrent.Flow$Processor");
+				subscription = Class.forName("java.util.concurrent.Flow$Subscription");
+				Class<?> subscriber = Class.forName("java.util.concurrent.Flow$Subscriber");
+				methods[0] = subscription.getMethod("request", long.class);
+				methods[1] = subscription.getMethod("cancel");
+				methods[2] = subscriber.getMethod("onSubscribe", subscription);
+				methods[3] = subscriber.getMethod("onNext", Object.class);
+				methods[4] = subscriber.getMethod("onError", Throwable.class);
+				methods[5] = subscriber.getMethod("onComplete");
+			} catch(ReflectiveOperationException e) {
+				//before Java 9
+				processor = null;
+				subscription = null;
+			}
+
+			PROCESSOR = processor;
+			SUBSCRIPTION = subscription;
+			REQUEST = methods[0];
+			CANCEL = methods[1];
+			ON_SUBSCRIBE = methods[2];
+			ON_NEXT = methods[3];
+			ON_ERROR = methods[4];
+			ON_COMPLETE = methods[5];
+
+		}
+
+	}
+
+	/**
+	 * Producer of items received by subscribers
+	 *
+	 * @param <T> Type of the items
+	 */
+	public interface Publisher<T> {
+
+		/**
+		 * Adds the subscriber. It receives {@link Subscriber#onSubscribe(Subscription)} before any other signal.
+		 *
+		 * @param subscriber Receiver of the items
+		 */
+		void subscribe(Subscriber<? super T> subscriber);
+
+	}
+
+	/**
+	 * Receiver of items. The methods are called one at a time, never concurrently.
+	 *
+	 * @param <T> Type of the items
+	 */
+	public interface Subscriber<T> {
+
+		/**
+		 * @param subscription Used to request items or to cancel the subscription
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Receives an item, only after it was requested
+		 *
+		 * @param item Next item
+		 */
+		void onNext(T item);
+
+		/**
+		 * Receives the failure that ended the subscription. No other method is called after it.
+		 *
+		 * @param throwable Cause of the failure
+		 */
+		void onError(Throwable throwable);
+
+		/**
+		 * Informs that there are no more items. No other method is called after it.
+		 */
+		void onComplete();
+
+	}
+
+	/**
+	 * Link between a publisher and a subscriber
+	 */
+	public interface Subscription {
+
+		/**
+		 * Adds the given number of items to the demand of the subscriber
+		 *
+		 * @param n Number of items (positive)
+		 */
+		void request(long n);
+
+		/**
+		 * Stops sending items to the subscriber
+		 */
+		void cancel();
+
+	}
+
+	/**
+	 * Stage that is a subscriber of one type of item and a publisher of another type
+	 *
+	 * @param <T> Type of the received items
+	 * @param <R> Type of the published items
+	 */
+	public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+	}
+
+}
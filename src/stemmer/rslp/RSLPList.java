@@ -8,8 +8,32 @@ public class RSLPList {
 	
 	private boolean suffixRemoved = false;
 	
+	//counts the comparisons made by apply, null when the counting is disabled
+	private RSLPCounters counters = null;
+	
+	public void setCounters(RSLPCounters counters) {
+		this.counters = counters;
+	}
+	
+	public RSLPCounters getCounters() {
+		return counters;
+	}
+	
 	public String apply(String in, boolean accents) {
 		
+		//tokens that no rule can change (empty, numbers, punctuation) do not enter the steps
+		if(RSLPStepFilter.endsLikeSuffix(in) == false){
+			if(counters != null){
+				counters.endWord();
+			}
+			return accents == KEEP_ACCENTS ? in : removeAccents(in);
+		}
+		
+		//while there is an active registry of metrics, the word is timed and the rules applied are counted
+		RSLPMetrics metrics = RSLPMetrics.getActive();
+		long start = metrics != null ? System.nanoTime() : 0;
+		String word = in;
+		
 		// if the word ends in 's', execute the plural reduction step
 		if(in.charAt(in.length() - 1) == 's'){
 			in = pluralReduction(in);
@@ -36,7 +60,11 @@ public class RSLPList {
 			
 			//if none of the verb reduction rules was applied, then execute vowel remove step
 			if(suffixRemoved == false){
-				in = removeVowel(in);
+				String reduced = vowelReduction(in);
+				if(metrics != null && reduced != in){
+					metrics.ruleApplied(RSLPMetrics.LIST, RSLPOutcome.VOWEL_REMOVE, "aeo".indexOf(in.charAt(in.length() - 1)));
+				}
+				in = reduced;
 			}
 			
 		}
@@ -44,27 +72,37 @@ public class RSLPList {
 		//clean the flag
 		suffixRemoved = false;
 		
+		if(counters != null){
+			counters.endWord();
+		}
+		
 		//remove (or not) the accents based on the flag given
-		if(accents == KEEP_ACCENTS){
-			return in;
-		}else{
-			return removeAccents(in);
+		if(accents == REMOVE_ACCENTS){
+			in = removeAccents(in);
 		}
 		
+		if(metrics != null){
+			metrics.wordStemmed(RSLPMetrics.LIST, word, System.nanoTime() - start);
+		}
+		
+		return in;
+		
 	}
 	
-	private String searchRule(String word, RSLPStrippingRule[] list){
+	private String searchRule(String word, RSLPStrippingRule[] list, int step){
 		for(int i=0; i<list.length; i++){
-			if(word.endsWith(list[i].getSuffix()) == true){
+			if(endsWith(step, word, list[i].getSuffix()) == true){
 				if(list[i].getExceptions() != null){
 					if(word.length() >= list[i].getSuffix().length() + list[i].getStemSize() - list[i].getReplacement().length()){
-						if(RSLPException.isException(word, list[i].getExceptions()) == false){
+						if(isException(step, word, list[i].getExceptions()) == false){
 							word = word.substring(0, word.length() - list[i].getSuffix().length()) + list[i].getReplacement();
+							ruleApplied(step, i);
 						}
 					}
 				}else{
 					if(word.length() >= list[i].getSuffix().length() + list[i].getStemSize() - list[i].getReplacement().length()){
 						word = word.substring(0, word.length() - list[i].getSuffix().length()) + list[i].getReplacement();
+						ruleApplied(step, i);
 					}
 				}
 				i = list.length;
@@ -73,33 +111,52 @@ public class RSLPList {
 		return word;
 	}
 	
+	//counts the rule in the active metrics, if there are active metrics
+	private static void ruleApplied(int step, int rule){
+		RSLPMetrics metrics = RSLPMetrics.getActive();
+		if(metrics != null) metrics.ruleApplied(RSLPMetrics.LIST, step, rule);
+	}
+	
+	//String.endsWith, counting the call and the characters compared when the counting is enabled
+	private boolean endsWith(int step, String word, String suffix){
+		if(counters == null) return word.endsWith(suffix);
+		return RSLPCountingWord.endsWith(counters, step, word, suffix);
+	}
+	
+	//RSLPException.isException, counting the lookup when the counting is enabled
+	private boolean isException(int step, String word, String[] exceptions){
+		if(counters != null) counters.count(step, RSLPCounters.EXCEPTION_LOOKUPS);
+		return RSLPException.isException(word, exceptions);
+	}
+	
 	public String pluralReduction(String in){
-		return searchRule(in, RSLPSuffixStrippingRules.PLURAL_REDUCTION_RULES);
+		return searchRule(in, RSLPSuffixStrippingRules.PLURAL_REDUCTION_RULES, RSLPOutcome.PLURAL_REDUCTION);
 	}
 
 	public String feminineReduction(String in){
-		return searchRule(in, RSLPSuffixStrippingRules.FEMININE_REDUCTION_RULES);
+		return searchRule(in, RSLPSuffixStrippingRules.FEMININE_REDUCTION_RULES, RSLPOutcome.FEMININE_REDUCTION);
 	}
 
 	public String degreeReduction(String in){
-		return searchRule(in, RSLPSuffixStrippingRules.DEGREE_REDUCTION_RULES);
+		return searchRule(in, RSLPSuffixStrippingRules.DEGREE_REDUCTION_RULES, RSLPOutcome.DEGREE_REDUCTION);
 	}
 
 	public String adverbReduction(String in){
-		if(in.endsWith("mente") == true){
-			if(RSLPException.isException(in, RSLPException.ADVERB_MENTE) == false){
-				return in.replace("mente", "");
-			}
-		}
-		return in;
+		return searchRule(in, RSLPSuffixStrippingRules.ADVERB_REDUCTION_RULES, RSLPOutcome.ADVERB_REDUCTION);
 	}
 
 	public String nounReduction(String in){
-		return searchRule(in, RSLPSuffixStrippingRules.NOUN_REDUCTION_RULES);
+		String reduced = searchRule(in, RSLPSuffixStrippingRules.NOUN_REDUCTION_RULES, RSLPOutcome.NOUN_REDUCTION);
+		//the next steps of apply are executed only when no rule of this step was applied
+		suffixRemoved = reduced != in;
+		return reduced;
 	}
 
 	public String verbReduction(String in){
-		return searchRule(in, RSLPSuffixStrippingRules.VERB_REDUCTION_RULES);
+		String reduced = searchRule(in, RSLPSuffixStrippingRules.VERB_REDUCTION_RULES, RSLPOutcome.VERB_REDUCTION);
+		//the next steps of apply are executed only when no rule of this step was applied
+		suffixRemoved = reduced != in;
+		return reduced;
 	}
 
 	public static String removeVowel(String in){
@@ -111,6 +168,17 @@ public class RSLPList {
 		return in;
 	}
 
+	//same as removeVowel, counting the comparisons when the counting is enabled
+	private String vowelReduction(String in){
+		if(counters == null) return removeVowel(in);
+		if(in.length() > 2 && isException(RSLPOutcome.VOWEL_REMOVE, in, RSLPException.VOWEL) == false){
+			if(endsWith(RSLPOutcome.VOWEL_REMOVE, in, "a") || endsWith(RSLPOutcome.VOWEL_REMOVE, in, "e") || endsWith(RSLPOutcome.VOWEL_REMOVE, in, "o")){
+				return in.substring(0, in.length() - 1);
+			}
+		}
+		return in;
+	}
+
 	public static String removeAccents(String in){
 		return in.replaceAll("|||", "a").replaceAll("|", "e").replaceAll("", "i").replaceAll("||", "o").replaceAll("", "");
 	}
@@ -0,0 +1,412 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPMetrics.java                                                            */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what the stemmers do, to be read by Prometheus in its text format: words and bytes processed, latency of each engine,
+ * hits of each rule, words blocked by each exception list and hits of the registered caches.
+ *
+ * <pre>
+ * RSLPMetrics metrics = new RSLPMetrics();
+ * metrics.addCache("stems", cache);
+ * RSLPMetrics.setActive(metrics);
+ * String text = metrics.write();
+ * </pre>
+ *
+ * <p>{@link RSLPMetricsHttpExporter} serves the metrics over HTTP.</p>
+ *
+ * <p>Only the active registry is updated by the stemmers, and there is none by default: while there is none, each word only
+ * reads one volatile field. The counters are updated without locks and without creating objects (the counters of words and
+ * bytes are {@link LongAdder}s, the others are atomic arrays). The caches are read only when the metrics are written.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPMetrics {
+
+	/** Engine {@link RSLPAutomata} */
+	public static final int AUTOMATA = 0;
+
+	/** Engine {@link RSLPList} */
+	public static final int LIST = 1;
+
+	/** Content type of the text format of Prometheus */
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private static final String[] ENGINE_NAMES = {"automata", "list"};
+
+	private static final String[] STEP_NAMES = {"plural", "feminine", "degree", "adverb", "noun", "verb", "vowel"};
+
+	/** Upper bounds (nanoseconds) of the buckets of the latency histograms, without the last one (infinite) */
+	private static final long[] LATENCY_BOUNDS = {250, 500, 1000, 2000, 4000, 8000, 16000, 32000, 64000, 128000, 1000000};
+
+	/** Position of the first rule of each step in the rule counters */
+	private static final int[] RULE_OFFSETS = new int[STEP_NAMES.length + 1];
+
+	/** Names of the exception lists of {@link RSLPException}, in name order */
+	private static final String[] EXCEPTION_NAMES;
+
+	/** Position of each exception list in the exception counters, found by the identity of the array */
+	private static final Map<String[], Integer> EXCEPTION_INDEXES = new IdentityHashMap<String[], Integer>();
+
+	private static volatile RSLPMetrics active = null;
+
+	static {
+
+		for(int step=0; step < STEP_NAMES.length; step++) {
+			RULE_OFFSETS[step + 1] = RULE_OFFSETS[step] + RSLPOutcome.getRules(step).length;
+		}
+
+		Field[] fields = RSLPException.class.getFields();
+		Arrays.sort(fields, new Comparator<Field>() {
+			public int compare(Field a, Field b) {
+				return a.getName().compareTo(b.getName());
+			}
+		});
+
+		List<String> names = new ArrayList<String>();
+		for(int i=0; i < fields.length; i++) {
+			if(fields[i].getType() == String[].class) {
+				try {
+					EXCEPTION_INDEXES.put((String[]) fields[i].get(null), names.size());
+				} catch(IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+				names.add(fields[i].getName());
+			}
+		}
+		EXCEPTION_NAMES = names.toArray(new String[names.size()]);
+
+	}
+
+	private final LongAdder[] words = new LongAdder[ENGINE_NAMES.length];
+
+	private final LongAdder[] bytes = new LongAdder[ENGINE_NAMES.length];
+
+	/** Histograms of all engines, one after the other, with one bucket more than the bounds */
+	private final AtomicLongArray latencies = new AtomicLongArray(ENGINE_NAMES.length * (LATENCY_BOUNDS.length + 1));
+
+	/** Sum of the latencies of each engine */
+	private final AtomicLongArray latencySums = new AtomicLongArray(ENGINE_NAMES.length);
+
+	/** Rule counters of all engines, one after the other */
+	private final AtomicLongArray ruleHits = new AtomicLongArray(ENGINE_NAMES.length * RULE_OFFSETS[STEP_NAMES.length]);
+
+	private final AtomicLongArray exceptionBlocks = new AtomicLongArray(EXCEPTION_NAMES.length);
+
+	/** Names and caches, in the order they were added. Guarded by this object. */
+	private final List<Object[]> caches = new ArrayList<Object[]>();
+
+	//used to compute the rates between two writes, guarded by this object
+
+	private long lastWrite = System.nanoTime();
+
+	private final long[] lastWords = new long[ENGINE_NAMES.length];
+
+	private final long[] lastBytes = new long[ENGINE_NAMES.length];
+
+	public RSLPMetrics() {
+		for(int engine=0; engine < ENGINE_NAMES.length; engine++) {
+			words[engine] = new LongAdder();
+			bytes[engine] = new LongAdder();
+		}
+	}
+
+	/**
+	 * @param metrics Registry updated by the stemmers, or null to stop the updates
+	 */
+	public static void setActive(RSLPMetrics metrics) {
+		active = metrics;
+	}
+
+	/**
+	 * @return Registry updated by the stemmers, or null if there is none
+	 */
+	public static RSLPMetrics getActive() {
+		return active;
+	}
+
+	/**
+	 * Counts a word processed by an engine
+	 *
+	 * @param engine One of the engine constants of this class
+	 * @param word Processed word
+	 * @param nanos Time spent to process the word
+	 */
+	public void wordStemmed(int engine, CharSequence word, long nanos) {
+
+		words[engine].increment();
+		bytes[engine].add(utf8Length(word));
+
+		int bucket = 0;
+		while(bucket < LATENCY_BOUNDS.length && nanos > LATENCY_BOUNDS[bucket]) {
+			bucket++;
+		}
+
+		latencies.incrementAndGet(engine * (LATENCY_BOUNDS.length + 1) + bucket);
+		latencySums.addAndGet(engine, nanos);
+
+	}
+
+	/**
+	 * Counts a rule applied
+	 *
+	 * @param engine One of the engine constants of this class
+	 * @param step One of the step constants of {@link RSLPOutcome}
+	 * @param rule Index of the rule in the list used by the step
+	 */
+	public void ruleApplied(int engine, int step, int rule) {
+		ruleHits.incrementAndGet(engine * RULE_OFFSETS[STEP_NAMES.length] + RULE_OFFSETS[step] + rule);
+	}
+
+	/**
+	 * Counts the rule of an outcome of {@link RSLPAutomata}
+	 *
+	 * @param outcome Edit made by a step, ignored if it is {@link RSLPOutcome#UNCHANGED}
+	 */
+	public void ruleApplied(long outcome) {
+		if(outcome != RSLPOutcome.UNCHANGED) ruleApplied(AUTOMATA, RSLPOutcome.getStep(outcome), RSLPOutcome.getRuleIndex(outcome));
+	}
+
+	/**
+	 * Counts a word found in an exception list, so the rule that uses the list was not applied
+	 *
+	 * @param exceptions One of the lists of {@link RSLPException}
+	 */
+	public void exceptionBlocked(String[] exceptions) {
+		Integer index = EXCEPTION_INDEXES.get(exceptions);
+		if(index != null) exceptionBlocks.incrementAndGet(index.intValue());
+	}
+
+	/**
+	 * Counts the word found in the exception list in the active registry, if there is one
+	 */
+	static void exceptionFound(String[] exceptions) {
+		RSLPMetrics metrics = active;
+		if(metrics != null) metrics.exceptionBlocked(exceptions);
+	}
+
+	/**
+	 * @return Number of bytes of the word in UTF-8
+	 */
+	private static int utf8Length(CharSequence word) {
+
+		int length = word.length();
+		for(int i=0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			if(c >= 0x80) length += c < 0x800 || Character.isSurrogate(c) ? 1 : 2;
+		}
+
+		return length;
+
+	}
+
+	/**
+	 * Adds a cache to the metrics, read when the metrics are written
+	 *
+	 * @param name Name of the cache in the metrics
+	 * @param cache The cache
+	 */
+	public synchronized void addCache(String name, RSLPStemCache cache) {
+		caches.add(new Object[] {name, cache});
+	}
+
+	/**
+	 * Adds a cache to the metrics, read when the metrics are written
+	 *
+	 * @param name Name of the cache in the metrics
+	 * @param cache The cache
+	 */
+	public synchronized void addCache(String name, RSLPOffHeapStemCache cache) {
+		caches.add(new Object[] {name, cache});
+	}
+
+	/**
+	 * @param engine One of the engine constants of this class
+	 * @return Number of words processed by the engine
+	 */
+	public long getWords(int engine) {
+		return words[engine].sum();
+	}
+
+	/**
+	 * @param engine One of the engine constants of this class
+	 * @param step One of the step constants of {@link RSLPOutcome}
+	 * @param rule Index of the rule in the list used by the step
+	 * @return Number of times the rule was applied by the engine
+	 */
+	public long getRuleHits(int engine, int step, int rule) {
+		return ruleHits.get(engine * RULE_OFFSETS[STEP_NAMES.length] + RULE_OFFSETS[step] + rule);
+	}
+
+	/**
+	 * Writes the metrics in the text format of Prometheus. The rates (words and bytes per second) are measured since the previous
+	 * write; the counters are better for Prometheus, which computes the rates by itself.
+	 *
+	 * @return The metrics
+	 */
+	public synchronized String write() {
+
+		StringBuilder out = new StringBuilder();
+
+		long now = System.nanoTime();
+		double seconds = Math.max(now - lastWrite, 1) / 1e9;
+		lastWrite = now;
+
+		header(out, "rslp_words_total", "counter", "Words processed by each engine");
+		for(int engine=0; engine < ENGINE_NAMES.length; engine++) {
+			sample(out, "rslp_words_total", "engine", ENGINE_NAMES[engine], words[engine].sum());
+		}
+
+		header(out, "rslp_bytes_total", "counter", "Bytes (UTF-8) of the words processed by each engine");
+		for(int engine=0; engine < ENGINE_NAMES.length; engine++) {
+			sample(out, "rslp_bytes_total", "engine", ENGINE_NAMES[engine], bytes[engine].sum());
+		}
+
+		header(out, "rslp_words_per_second", "gauge", "Words processed by each engine per second, since the previous scrape");
+		for(int engine=0; engine < ENGINE_NAMES.length; engine++) {
+			long total = words[engine].sum();
+			sample(out, "rslp_words_per_second", "engine", ENGINE_NAMES[engine], (total - lastWords[engine]) / seconds);
+			lastWords[engine] = total;
+		}
+
+		header(out, "rslp_bytes_per_second", "gauge", "Bytes of the words processed by each engine per second, since the previous scrape");
+		for(int engine=0; engine < ENGINE_NAMES.length; engine++) {
+			long total = bytes[engine].sum();
+			sample(out, "rslp_bytes_per_second", "engine", ENGINE_NAMES[engine], (total - lastBytes[engine]) / seconds);
+			lastBytes[engine] = total;
+		}
+
+		header(out, "rslp_stem_duration_seconds", "histogram", "Time spent to process each word");
+		for(int engine=0; engine < ENGINE_NAMES.length; engine++) {
+			long accumulated = 0;
+			for(int bucket=0; bucket <= LATENCY_BOUNDS.length; bucket++) {
+				accumulated += latencies.get(engine * (LATENCY_BOUNDS.length + 1) + bucket);
+				String bound = bucket < LATENCY_BOUNDS.length ? Double.toString(LATENCY_BOUNDS[bucket] / 1e9) : "+Inf";
+				out.append("rslp_stem_duration_seconds_bucket{engine=\"").append(ENGINE_NAMES[engine]).append("\",le=\"").append(bound).append("\"} ")
+					.append(accumulated).append('\n');
+			}
+			sample(out, "rslp_stem_duration_seconds_sum", "engine", ENGINE_NAMES[engine], latencySums.get(engine) / 1e9);
+			sample(out, "rslp_stem_duration_seconds_count", "engine", ENGINE_NAMES[engine], accumulated);
+		}
+
+		header(out, "rslp_rule_hits_total", "counter", "Times each rule was applied by each engine");
+		for(int engine=0; engine < ENGINE_NAMES.length; engine++) {
+			for(int step=0; step < STEP_NAMES.length; step++) {
+				RSLPStrippingRule[] rules = RSLPOutcome.getRules(step);
+				for(int rule=0; rule < rules.length; rule++) {
+					out.append("rslp_rule_hits_total{engine=\"").append(ENGINE_NAMES[engine]).append("\",step=\"").append(STEP_NAMES[step])
+						.append("\",rule=\"").append(rule).append("\",suffix=\"").append(escape(rules[rule].getSuffix())).append("\"} ")
+						.append(getRuleHits(engine, step, rule)).append('\n');
+				}
+			}
+		}
+
+		header(out, "rslp_exception_blocks_total", "counter", "Words found in each exception list (by any engine), so the rule was not applied");
+		for(int i=0; i < EXCEPTION_NAMES.length; i++) {
+			sample(out, "rslp_exception_blocks_total", "list", EXCEPTION_NAMES[i], exceptionBlocks.get(i));
+		}
+
+		if(caches.isEmpty() == false) {
+
+			header(out, "rslp_cache_hits_total", "counter", "Words found in each cache");
+			for(Object[] cache : caches) {
+				sample(out, "rslp_cache_hits_total", "cache", (String) cache[0], getCacheHits(cache[1]));
+			}
+
+			header(out, "rslp_cache_misses_total", "counter", "Words not found in each cache");
+			for(Object[] cache : caches) {
+				sample(out, "rslp_cache_misses_total", "cache", (String) cache[0], getCacheMisses(cache[1]));
+			}
+
+			header(out, "rslp_cache_hit_ratio", "gauge", "Fraction of the words found in each cache since it was created");
+			for(Object[] cache : caches) {
+				long hits = getCacheHits(cache[1]);
+				long requests = hits + getCacheMisses(cache[1]);
+				sample(out, "rslp_cache_hit_ratio", "cache", (String) cache[0], requests == 0 ? 0 : (double) hits / requests);
+			}
+
+		}
+
+		header(out, "rslp_rule_set_version", "gauge", "Version of the rules and exceptions (see RSLPSuffixStrippingRules.VERSION)");
+		out.append("rslp_rule_set_version ").append(RSLPSuffixStrippingRules.VERSION).append('\n');
+
+		return out.toString();
+
+	}
+
+	private static long getCacheHits(Object cache) {
+		return cache instanceof RSLPStemCache ? ((RSLPStemCache) cache).getHits() : ((RSLPOffHeapStemCache) cache).getHits();
+	}
+
+	private static long getCacheMisses(Object cache) {
+		return cache instanceof RSLPStemCache ? ((RSLPStemCache) cache).getMisses() : ((RSLPOffHeapStemCache) cache).getMisses();
+	}
+
+	private static void header(StringBuilder out, String name, String type, String help) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	private static void sample(StringBuilder out, String name, String label, String value, long sample) {
+		out.append(name).append('{').append(label).append("=\"").append(escape(value)).append("\"} ").append(sample).append('\n');
+	}
+
+	private static void sample(StringBuilder out, String name, String label, String value, double sample) {
+		out.append(name).append('{').append(label).append("=\"").append(escape(value)).append("\"} ").append(String.format(Locale.ROOT, "%.6g", sample)).append('\n');
+	}
+
+	/**
+	 * @return The value with the backslashes, quotes and line breaks escaped, as required by the labels
+	 */
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+}
@@ -0,0 +1,155 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPMetricsHttpExporter.java                                                */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the metrics of a {@link RSLPMetrics} registry with the HTTP server of the JDK, to be read by Prometheus.
+ *
+ * <pre>
+ * RSLPMetrics metrics = new RSLPMetrics();
+ * RSLPMetrics.setActive(metrics);
+ * RSLPMetricsHttpExporter.serve(metrics, 9464);
+ * //curl http://localhost:9464/metrics
+ * </pre>
+ *
+ * <p>The server is in the module jdk.httpserver, which is not in every runtime. Only this class uses it, so the stemmers and
+ * {@link RSLPMetrics} work without it.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPMetricsHttpExporter {
+
+	/** Path of the metrics in the HTTP server */
+	public static final String PATH = "/metrics";
+
+	private RSLPMetricsHttpExporter() {
+	}
+
+	/**
+	 * Starts a HTTP server (of the JDK) in the loopback address that answers {@link #PATH} with the metrics
+	 *
+	 * @param metrics Registry whose metrics are served
+	 * @param port Port of the server, or zero for any free port
+	 * @return The started server, to be stopped with {@link HttpServer#stop(int)}
+	 * @throws IOException If the server can not be started in the port
+	 */
+	public static HttpServer serve(final RSLPMetrics metrics, int port) throws IOException {
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+
+		server.createContext(PATH, new HttpHandler() {
+			public void handle(HttpExchange exchange) throws IOException {
+				try {
+					if("GET".equals(exchange.getRequestMethod()) == false) {
+						exchange.sendResponseHeaders(405, -1);
+						return;
+					}
+					byte[] body = metrics.write().getBytes(StandardCharsets.UTF_8);
+					exchange.getResponseHeaders().set("Content-Type", RSLPMetrics.CONTENT_TYPE);
+					exchange.sendResponseHeaders(200, body.length);
+					OutputStream out = exchange.getResponseBody();
+					out.write(body);
+					out.close();
+				} finally {
+					exchange.close();
+				}
+			}
+		});
+
+		server.start();
+		return server;
+
+	}
+
+	/**
+	 * Serves the metrics while both engines process a corpus (one word per line) again and again, so the endpoint can be read
+	 * with curl
+	 *
+	 * @param args The corpus file and, optionally, the port (9464 when not informed)
+	 * @throws IOException If the file can not be read or the server can not be started
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 1) {
+			System.err.println("Usage: RSLPMetricsHttpExporter <corpus file> [port]");
+			return;
+		}
+
+		List<String> corpus = new ArrayList<String>();
+		for(String line : Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+			line = line.trim();
+			if(line.isEmpty() == false) corpus.add(line);
+		}
+
+		RSLPMetrics metrics = new RSLPMetrics();
+		RSLPStemCache cache = new RSLPStemCache(Math.max(corpus.size(), 16), RSLPAutomata.KEEP_ACCENTS);
+		metrics.addCache("automata", cache);
+		RSLPMetrics.setActive(metrics);
+
+		HttpServer server = serve(metrics, args.length > 1 ? Integer.parseInt(args[1]) : 9464);
+		System.out.println("curl http://localhost:" + server.getAddress().getPort() + PATH);
+
+		RSLPAutomata automata = new RSLPAutomata();
+		RSLPList list = new RSLPList();
+
+		while(true) {
+			for(String word : corpus) {
+				cache.apply(word);
+				automata.apply(word, RSLPAutomata.KEEP_ACCENTS);
+				list.apply(word, RSLPList.KEEP_ACCENTS);
+			}
+		}
+
+	}
+
+}
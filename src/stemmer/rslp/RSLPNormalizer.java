@@ -0,0 +1,189 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPNormalizer.java                                                         */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.text.Normalizer;
+
+/**
+ * Prepares words for the stemmers, which expect lowercase words with composed accents (as the exception lists of
+ * {@link RSLPException}): converts the letters to lowercase and, optionally, joins a letter followed by a combining accent
+ * (as 'a' followed by U+0301, common in text from some systems) in the single character of the accented letter (NFC).
+ *
+ * <p>The conversion uses a table for the Latin-1 characters, where all the Portuguese letters are, and reads ASCII words with a
+ * faster loop. The words are converted in place or while they are copied, without creating objects, and
+ * {@link RSLPAutomata#applyNormalized(String, boolean, boolean)} and {@link RSLPAutomata#stemNormalized(char[], int, int, boolean)}
+ * do it together with the stemming.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public final class RSLPNormalizer {
+
+	/** Constant to inform that the combining accents are joined with the previous letter */
+	public static final boolean COMPOSE = true;
+
+	/** Constant to inform that the combining accents are kept as they are */
+	public static final boolean KEEP_DECOMPOSED = false;
+
+	/** First combining accent (grave accent) */
+	private static final char FIRST_MARK = '\u0300';
+
+	/** Last combining accent of the block of combining diacritical marks */
+	private static final char LAST_MARK = '\u036F';
+
+	/** Lowercase of each Latin-1 character */
+	private static final char[] LOWERCASE = new char[256];
+
+	/** Composed character of each combining accent and lowercase ASCII letter, or zero if there is none */
+	private static final char[][] COMPOSED = new char[LAST_MARK - FIRST_MARK + 1][26];
+
+	static {
+
+		for(char c=0; c < LOWERCASE.length; c++) {
+			char lower = Character.toLowerCase(c);
+			LOWERCASE[c] = lower < LOWERCASE.length ? lower : c;
+		}
+
+		for(char mark=FIRST_MARK; mark <= LAST_MARK; mark++) {
+			for(char letter='a'; letter <= 'z'; letter++) {
+				String composed = Normalizer.normalize(new String(new char[] {letter, mark}), Normalizer.Form.NFC);
+				if(composed.length() == 1) {
+					COMPOSED[mark - FIRST_MARK][letter - 'a'] = composed.charAt(0);
+				}
+			}
+		}
+
+	}
+
+	private RSLPNormalizer() {
+	}
+
+	/**
+	 * @param c Any character
+	 * @return The lowercase of the character
+	 */
+	public static char toLowerCase(char c) {
+		return c < LOWERCASE.length ? LOWERCASE[c] : Character.toLowerCase(c);
+	}
+
+	/**
+	 * @param c Any character
+	 * @return TRUE if the character is a combining accent (block of combining diacritical marks)
+	 */
+	public static boolean isCombiningMark(char c) {
+		return c >= FIRST_MARK && c <= LAST_MARK;
+	}
+
+	/**
+	 * @param letter Lowercase letter
+	 * @param mark Combining accent
+	 * @return The accented letter or zero if there is no single character for it
+	 */
+	static char compose(char letter, char mark) {
+		if(letter < 'a' || letter > 'z' || isCombiningMark(mark) == false) return 0;
+		return COMPOSED[mark - FIRST_MARK][letter - 'a'];
+	}
+
+	/**
+	 * Converts the word to lowercase in place, composing the accents if asked
+	 *
+	 * @param buffer Array with the word
+	 * @param offset Position of the array where the word starts
+	 * @param length Length of the word
+	 * @param compose One of the constants of this class
+	 * @return Length of the converted word (smaller than the given length if some accent was composed)
+	 */
+	public static int normalize(char[] buffer, int offset, int length, boolean compose) {
+
+		int end = offset + length;
+		int i = offset;
+
+		//ASCII letters: only the uppercase ones change
+		while(i < end) {
+			char c = buffer[i];
+			if(c >= 0x80) break;
+			if(c >= 'A' && c <= 'Z') buffer[i] = (char) (c | 0x20);
+			i++;
+		}
+
+		int out = i;
+
+		for(; i < end; i++) {
+
+			char c = buffer[i];
+
+			if(compose && out > offset && isCombiningMark(c)) {
+				char composed = compose(buffer[out - 1], c);
+				if(composed != 0) {
+					buffer[out - 1] = composed;
+					continue;
+				}
+			}
+
+			buffer[out++] = toLowerCase(c);
+
+		}
+
+		return out - offset;
+
+	}
+
+	/**
+	 * Converts the word to lowercase, composing the accents if asked
+	 *
+	 * @param word Word to be converted
+	 * @param compose One of the constants of this class
+	 * @return The converted word, or the given word if nothing changed
+	 */
+	public static String normalize(String word, boolean compose) {
+
+		int i = 0;
+		while(i < word.length()) {
+			char c = word.charAt(i);
+			if(toLowerCase(c) != c || (compose && isCombiningMark(c))) break;
+			i++;
+		}
+
+		if(i == word.length()) return word;
+
+		char[] chars = word.toCharArray();
+		return new String(chars, 0, normalize(chars, 0, chars.length, compose));
+
+	}
+
+}
@@ -0,0 +1,551 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPOffHeapStemCache.java                                                   */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Bounded cache of stems in front of {@link RSLPAutomata} that keeps the words and the stems out of the heap, so a cache with
+ * millions of entries does not increase the work of the garbage collector. Safe to be shared between threads.
+ *
+ * <p>The entries are split in segments, each one with its own lock. A segment keeps its entries in a circular log (a direct
+ * buffer where the records are appended) and finds them with an open addressing index, also in a direct buffer. When the log
+ * is full or the segment has its maximum number of entries, the oldest records are removed (first in, first out).</p>
+ *
+ * <p>Each record has the hash of the word, the lengths of the word and of the stem and their characters. A stem that is the
+ * beginning of the word, as most stems, is stored only by its length.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPOffHeapStemCache {
+
+	/** Bytes of the log reserved for each entry when the size of the log is not informed */
+	public static final int DEFAULT_BYTES_PER_ENTRY = 64;
+
+	/** Bytes of the header of a record: hash, word length and stem length */
+	private static final int RECORD_HEADER = 8;
+
+	/** Flag of the stem length informing that the stem is the beginning of the word */
+	private static final int STEM_PREFIX = 0x8000;
+
+	/** Bytes of each position of the index: hash and position of the record plus one (zero is an empty position) */
+	private static final int SLOT_SIZE = 8;
+
+	private final boolean accents;
+
+	private final Segment[] segments;
+
+	private final ThreadLocal<RSLPAutomata> stemmer = new ThreadLocal<RSLPAutomata>() {
+		protected RSLPAutomata initialValue() {
+			return new RSLPAutomata();
+		}
+	};
+
+	/**
+	 * Creates an empty cache with {@link #DEFAULT_BYTES_PER_ENTRY} bytes of log for each entry
+	 *
+	 * @param capacity Maximum number of words kept in the cache
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPOffHeapStemCache(int capacity, boolean accents) {
+		this(capacity, (long) capacity * DEFAULT_BYTES_PER_ENTRY, accents);
+	}
+
+	/**
+	 * Creates an empty cache
+	 *
+	 * @param capacity Maximum number of words kept in the cache
+	 * @param logBytes Size of all the logs. When it is full the oldest words are removed even if the capacity was not reached.
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPOffHeapStemCache(int capacity, long logBytes, boolean accents) {
+
+		int count = 1;
+		while(count < Runtime.getRuntime().availableProcessors() * 4 && count * 1024L < capacity) count <<= 1;
+		//each log is addressed by an int
+		while(logBytes / count > Integer.MAX_VALUE / 2) count <<= 1;
+
+		this.accents = accents;
+		this.segments = new Segment[count];
+		for(int i=0; i < count; i++) {
+			segments[i] = new Segment(Math.max(1, capacity / count), (int) Math.max(1024, logBytes / count));
+		}
+
+	}
+
+	/**
+	 * Returns the stem of the given word, processing it only if it is not in the cache
+	 *
+	 * @param word Word to be processed
+	 * @return Processed word, the same returned by {@link RSLPAutomata#apply(String, boolean)}
+	 */
+	public String apply(String word) {
+
+		int hash = hash(word);
+		Segment segment = segmentFor(hash);
+		String stem = segment.get(word, hash);
+
+		if(stem == null) {
+			stem = stemmer.get().apply(word, accents);
+			segment.put(word, hash, stem);
+		}
+
+		return stem;
+
+	}
+
+	/**
+	 * @param word Word to be searched
+	 * @return The stem stored for the word or null if the word is not in the cache
+	 */
+	public String get(String word) {
+		int hash = hash(word);
+		return segmentFor(hash).get(word, hash);
+	}
+
+	/**
+	 * Stores the stem of the word, removing the oldest words of the segment if there is no room for it
+	 *
+	 * @param word Processed word
+	 * @param stem Stem of the word
+	 */
+	public void put(String word, String stem) {
+		int hash = hash(word);
+		segmentFor(hash).put(word, hash, stem);
+	}
+
+	/**
+	 * @return Number of words in the cache
+	 */
+	public int size() {
+		int size = 0;
+		for(int i=0; i < segments.length; i++) {
+			synchronized(segments[i]) {
+				size += segments[i].size;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return Number of searches that found the word in the cache
+	 */
+	public long getHits() {
+		long hits = 0;
+		for(int i=0; i < segments.length; i++) {
+			synchronized(segments[i]) {
+				hits += segments[i].hits;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * @return Number of searches that did not find the word in the cache
+	 */
+	public long getMisses() {
+		long misses = 0;
+		for(int i=0; i < segments.length; i++) {
+			synchronized(segments[i]) {
+				misses += segments[i].misses;
+			}
+		}
+		return misses;
+	}
+
+	/**
+	 * @return Number of words removed to give room to new ones
+	 */
+	public long getEvictions() {
+		long evictions = 0;
+		for(int i=0; i < segments.length; i++) {
+			synchronized(segments[i]) {
+				evictions += segments[i].evictions;
+			}
+		}
+		return evictions;
+	}
+
+	/**
+	 * @return Bytes of direct memory used by the logs and indexes
+	 */
+	public long getOffHeapBytes() {
+		long bytes = 0;
+		for(int i=0; i < segments.length; i++) {
+			bytes += segments[i].log.capacity() + segments[i].index.capacity();
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return TRUE if the stems keep the accents, FALSE if the remove accents step is executed
+	 */
+	public boolean keepsAccents() {
+		return accents;
+	}
+
+	private static int hash(String word) {
+		int hash = word.hashCode() * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	private Segment segmentFor(int hash) {
+		return segments[(hash >>> 24) & (segments.length - 1)];
+	}
+
+	/**
+	 * Part of the cache with its own lock, log and index
+	 */
+	private static final class Segment {
+
+		private final ByteBuffer log;
+
+		private final ByteBuffer index;
+
+		private final int mask;
+
+		private final int capacity;
+
+		/** Position where the next record is written */
+		private int head;
+
+		/** Position of the oldest record */
+		private int tail;
+
+		/** Informs if the log wrapped: the records are between tail and limit and between zero and head */
+		private boolean wrapped;
+
+		/** End of the records at the end of the log when it wrapped */
+		private int limit;
+
+		private int size;
+
+		private long hits;
+
+		private long misses;
+
+		private long evictions;
+
+		Segment(int capacity, int logBytes) {
+
+			int slots = 2;
+			while(slots < capacity * 2) slots <<= 1;
+
+			this.capacity = capacity;
+			this.mask = slots - 1;
+			this.log = ByteBuffer.allocateDirect(logBytes);
+			this.index = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+
+		}
+
+		synchronized String get(String word, int hash) {
+
+			int record = find(word, hash);
+			if(record < 0) {
+				misses++;
+				return null;
+			}
+
+			hits++;
+
+			int wordLength = log.getChar(record + 4);
+			int stemLength = log.getChar(record + 6);
+			int start = record + RECORD_HEADER;
+
+			if((stemLength & STEM_PREFIX) != 0) {
+				return word.substring(0, stemLength & ~STEM_PREFIX);
+			}
+
+			start += wordLength * 2;
+			char[] stem = new char[stemLength];
+			for(int i=0; i < stemLength; i++) {
+				stem[i] = log.getChar(start + i * 2);
+			}
+
+			return new String(stem);
+
+		}
+
+		synchronized void put(String word, int hash, String stem) {
+
+			if(find(word, hash) >= 0) return;
+
+			boolean prefix = word.startsWith(stem);
+			int recordSize = RECORD_HEADER + word.length() * 2 + (prefix ? 0 : stem.length() * 2);
+
+			//words too long for the log (or for the header) are not kept
+			if(recordSize > log.capacity() || word.length() >= STEM_PREFIX || stem.length() >= STEM_PREFIX) return;
+
+			while(size >= capacity) {
+				evict();
+			}
+
+			int record = allocate(recordSize);
+
+			log.putInt(record, hash);
+			log.putChar(record + 4, (char) word.length());
+			log.putChar(record + 6, (char) (prefix ? stem.length() | STEM_PREFIX : stem.length()));
+			int position = record + RECORD_HEADER;
+			for(int i=0; i < word.length(); i++, position += 2) {
+				log.putChar(position, word.charAt(i));
+			}
+			if(prefix == false) {
+				for(int i=0; i < stem.length(); i++, position += 2) {
+					log.putChar(position, stem.charAt(i));
+				}
+			}
+
+			int slot = hash & mask;
+			while(index.getInt(slot * SLOT_SIZE + 4) != 0) {
+				slot = (slot + 1) & mask;
+			}
+			index.putInt(slot * SLOT_SIZE, hash);
+			index.putInt(slot * SLOT_SIZE + 4, record + 1);
+
+			size++;
+
+		}
+
+		/**
+		 * @return Position of the record of the word in the log or -1 if the word is not in the segment
+		 */
+		private int find(String word, int hash) {
+
+			int slot = hash & mask;
+
+			while(true) {
+
+				int record = index.getInt(slot * SLOT_SIZE + 4) - 1;
+				if(record < 0) return -1;
+
+				if(index.getInt(slot * SLOT_SIZE) == hash && log.getChar(record + 4) == word.length()) {
+					int position = record + RECORD_HEADER;
+					int i = 0;
+					while(i < word.length() && log.getChar(position + i * 2) == word.charAt(i)) i++;
+					if(i == word.length()) return record;
+				}
+
+				slot = (slot + 1) & mask;
+
+			}
+
+		}
+
+		/**
+		 * Reserves room for a record at the head of the log, removing the oldest records that use that room
+		 */
+		private int allocate(int recordSize) {
+
+			while(true) {
+
+				if(wrapped == false) {
+					if(head + recordSize <= log.capacity()) break;
+					//the record does not fit at the end of the log: the next records are written from the beginning
+					limit = head;
+					head = 0;
+					wrapped = size > 0;
+					if(wrapped == false) tail = 0;
+				}else {
+					if(head + recordSize <= tail) break;
+					evict();
+				}
+
+			}
+
+			int record = head;
+			head += recordSize;
+			return record;
+
+		}
+
+		/**
+		 * Removes the oldest record
+		 */
+		private void evict() {
+
+			int record = tail;
+			int hash = log.getInt(record);
+			int wordLength = log.getChar(record + 4);
+			int stemLength = log.getChar(record + 6);
+			int recordSize = RECORD_HEADER + wordLength * 2 + ((stemLength & STEM_PREFIX) != 0 ? 0 : stemLength * 2);
+
+			//the word is only read from the log when the events are enabled
+			if(RSLPEvents.isEnabled()) {
+				char[] word = new char[wordLength];
+				for(int i=0; i < wordLength; i++) {
+					word[i] = log.getChar(record + RECORD_HEADER + i * 2);
+				}
+				RSLPEvents.cacheEvicted("RSLPOffHeapStemCache", new String(word));
+			}
+
+			int slot = hash & mask;
+			while(index.getInt(slot * SLOT_SIZE + 4) != record + 1) {
+				slot = (slot + 1) & mask;
+			}
+			removeSlot(slot);
+
+			size--;
+			evictions++;
+			tail += recordSize;
+
+			if(size == 0) {
+				head = 0;
+				tail = 0;
+				wrapped = false;
+			}else if(wrapped && tail >= limit) {
+				tail = 0;
+				wrapped = false;
+			}
+
+		}
+
+		/**
+		 * Empties a position of the index, moving back the next positions of the same cluster (linear probing without tombstones)
+		 */
+		private void removeSlot(int slot) {
+
+			int next = slot;
+
+			while(true) {
+
+				next = (next + 1) & mask;
+				int record = index.getInt(next * SLOT_SIZE + 4);
+				if(record == 0) break;
+
+				int hash = index.getInt(next * SLOT_SIZE);
+				int home = hash & mask;
+
+				//the entry can fill the empty position if its home is not between the empty position and its position
+				boolean movable = slot <= next ? (home <= slot || home > next) : (home <= slot && home > next);
+				if(movable) {
+					index.putInt(slot * SLOT_SIZE, hash);
+					index.putInt(slot * SLOT_SIZE + 4, record);
+					slot = next;
+				}
+
+			}
+
+			index.putInt(slot * SLOT_SIZE, 0);
+			index.putInt(slot * SLOT_SIZE + 4, 0);
+
+		}
+
+	}
+
+	/**
+	 * Compares the garbage collection of {@link RSLPStemCache} and of this cache: fills the cache with distinct generated words and
+	 * keeps processing words (some already in the cache) while the pauses of the collector are recorded. Each kind of cache must
+	 * be measured in its own JVM, with the same heap options.
+	 *
+	 * @param args "heap" or "offheap", number of entries (default 5000000) and number of processed words (default 20000000)
+	 */
+	public static void main(String[] args) {
+
+		boolean offHeap = args.length > 0 && args[0].equals("offheap");
+		int entries = args.length > 1 ? Integer.parseInt(args[1]) : 5000000;
+		long words = args.length > 2 ? Long.parseLong(args[2]) : 20000000;
+
+		final AtomicLong pauses = new AtomicLong();
+		final AtomicLong pauseTime = new AtomicLong();
+		final AtomicLong maxPause = new AtomicLong();
+
+		for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if(collector instanceof NotificationEmitter) {
+				((NotificationEmitter) collector).addNotificationListener(new NotificationListener() {
+					public void handleNotification(Notification notification, Object handback) {
+						if("com.sun.management.gc.notification".equals(notification.getType())) {
+							CompositeData info = (CompositeData) notification.getUserData();
+							long duration = (Long) ((CompositeData) info.get("gcInfo")).get("duration");
+							pauses.incrementAndGet();
+							pauseTime.addAndGet(duration);
+							while(duration > maxPause.get() && maxPause.compareAndSet(maxPause.get(), duration) == false);
+						}
+					}
+				}, null, null);
+			}
+		}
+
+		RSLPStemCache heapCache = offHeap ? null : new RSLPStemCache(entries, RSLPAutomata.KEEP_ACCENTS);
+		RSLPOffHeapStemCache offHeapCache = offHeap ? new RSLPOffHeapStemCache(entries, RSLPAutomata.KEEP_ACCENTS) : null;
+
+		Random random = new Random(1);
+		List<String> batch = new ArrayList<String>();
+		long start = System.nanoTime();
+		long processed = 0;
+		long length = 0;
+
+		while(processed < words) {
+
+			//distinct words while the cache is filled, then half of the words repeat recent ones
+			batch.clear();
+			batch.addAll(RSLPDifferentialTester.generate(random, 10000));
+			for(int i=0; i < batch.size(); i++) {
+				String word = processed >= entries && (i & 1) == 0 ? batch.get(i >> 1) : batch.get(i) + processed;
+				length += offHeap ? offHeapCache.apply(word).length() : heapCache.apply(word).length();
+			}
+
+			processed += batch.size();
+
+		}
+
+		long elapsed = System.nanoTime() - start;
+
+		System.gc();
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+		System.out.println((offHeap ? "RSLPOffHeapStemCache" : "RSLPStemCache") + ": " + processed + " words in " + elapsed / 1000000 + " ms (" + length + " characters)");
+		System.out.println("entries " + (offHeap ? offHeapCache.size() : heapCache.size()) + ", heap used after a full collection " + (heap.getUsed() >> 20) + " MB"
+			+ (offHeap ? ", direct memory " + (offHeapCache.getOffHeapBytes() >> 20) + " MB" : ""));
+		System.out.println("collections " + pauses.get() + ", total pause " + pauseTime.get() + " ms, longest pause " + maxPause.get() + " ms");
+
+	}
+
+}
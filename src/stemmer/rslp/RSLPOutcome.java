@@ -0,0 +1,289 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPOutcome.java                                                            */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes, in a single long value, the edit made by a reduction step (or by the whole algorithm) in a word,
+ * so the caller can apply it to its own buffer instead of receiving a new String.
+ * The edit is always: keep the first 'cut position' characters of the word and attach the replacement after them.
+ *
+ * <p>Layout of the value (from the most significant bits): step (8 bits), index of the rule in the list of
+ * {@link RSLPSuffixStrippingRules} used by the step (8 bits), replacement identifier (8 bits), unused (8 bits) and cut position (32 bits).</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public final class RSLPOutcome {
+
+	/** Value returned when none of the reductions was applied */
+	public static final long UNCHANGED = -1L;
+
+	/** Step that uses the rules {@link RSLPSuffixStrippingRules#PLURAL_REDUCTION_RULES} */
+	public static final int PLURAL_REDUCTION = 0;
+
+	/** Step that uses the rules {@link RSLPSuffixStrippingRules#FEMININE_REDUCTION_RULES} */
+	public static final int FEMININE_REDUCTION = 1;
+
+	/** Step that uses the rules {@link RSLPSuffixStrippingRules#DEGREE_REDUCTION_RULES} */
+	public static final int DEGREE_REDUCTION = 2;
+
+	/** Step that uses the rules {@link RSLPSuffixStrippingRules#ADVERB_REDUCTION_RULES} */
+	public static final int ADVERB_REDUCTION = 3;
+
+	/** Step that uses the rules {@link RSLPSuffixStrippingRules#NOUN_REDUCTION_RULES} */
+	public static final int NOUN_REDUCTION = 4;
+
+	/** Step that uses the rules {@link RSLPSuffixStrippingRules#VERB_REDUCTION_RULES} */
+	public static final int VERB_REDUCTION = 5;
+
+	/** Step that uses the rules {@link RSLPSuffixStrippingRules#VOWEL_REDUCTION_RULES} */
+	public static final int VOWEL_REMOVE = 6;
+
+	public static final int
+
+	REPLACEMENT_EMPTY = 0,
+	REPLACEMENT_M = 1,
+	REPLACEMENT_AO = 2,
+	REPLACEMENT_AL = 3,
+	REPLACEMENT_EL = 4,
+	REPLACEMENT_OL = 5,
+	REPLACEMENT_IL = 6,
+	REPLACEMENT_L = 7,
+	REPLACEMENT_R = 8,
+	REPLACEMENT_OR = 9,
+	REPLACEMENT_NO = 10,
+	REPLACEMENT_INHO = 11,
+	REPLACEMENT_ES = 12,
+	REPLACEMENT_OSO = 13,
+	REPLACEMENT_IACO = 14,
+	REPLACEMENT_ICO = 15,
+	REPLACEMENT_ADO = 16,
+	REPLACEMENT_IDO = 17,
+	REPLACEMENT_IIDO = 18,
+	REPLACEMENT_IMO = 19,
+	REPLACEMENT_IVO = 20,
+	REPLACEMENT_EIRO = 21,
+	REPLACEMENT_C = 22;
+
+	/**
+	 * Strings attached by the rules, indexed by the replacement identifier.
+	 * After the named replacements come their prefixes, needed to describe the whole algorithm as a single edit
+	 * (for example, the vowel remove step can remove the 'o' attached by the plural reduction step in 'capites').
+	 */
+	private static final String[] REPLACEMENTS;
+
+	static {
+
+		List<String> replacements = new ArrayList<String>();
+		String[] named = {"", "m", "o", "al", "el", "ol", "il", "l", "r", "or", "no", "inho", "s", "oso", "aco", "ico", "ado", "ido", "do", "imo", "ivo", "eiro", "c"};
+
+		for(int i=0; i < named.length; i++) {
+			replacements.add(named[i]);
+		}
+		for(int i=0; i < named.length; i++) {
+			for(int j=1; j < named[i].length(); j++) {
+				if(replacements.contains(named[i].substring(0, j)) == false) {
+					replacements.add(named[i].substring(0, j));
+				}
+			}
+		}
+
+		REPLACEMENTS = replacements.toArray(new String[replacements.size()]);
+
+	}
+
+	/**
+	 * Creates the value that describes an edit. Each field is masked to its bits (the cut position to the 32 low bits), so a value
+	 * out of range never changes the other fields.
+	 *
+	 * @param step One of the step constants of this class
+	 * @param rule Index of the rule in the list used by the step
+	 * @param cutPosition Number of characters of the word that are kept
+	 * @param replacement One of the replacement constants of this class
+	 * @return The edit packed in a long value
+	 */
+	public static long of(int step, int rule, int cutPosition, int replacement) {
+		return ((long) (step & 0xFF) << 56) | ((long) (rule & 0xFF) << 48) | ((long) (replacement & 0xFF) << 40) | (cutPosition & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * @param outcome Value returned by one of the outcome methods of {@link RSLPAutomata}
+	 * @return Number of characters of the word that are kept
+	 */
+	public static int getCutPosition(long outcome) {
+		return (int) outcome;
+	}
+
+	/**
+	 * @param outcome Value returned by one of the outcome methods of {@link RSLPAutomata}
+	 * @return Identifier of the String attached after the cut position
+	 */
+	public static int getReplacementId(long outcome) {
+		return (int) (outcome >>> 40) & 0xFF;
+	}
+
+	/**
+	 * @param outcome Value returned by one of the outcome methods of {@link RSLPAutomata}
+	 * @return The String attached after the cut position
+	 */
+	public static String getReplacement(long outcome) {
+		return REPLACEMENTS[getReplacementId(outcome)];
+	}
+
+	/**
+	 * @param outcome Value returned by one of the outcome methods of {@link RSLPAutomata}
+	 * @return The step that applied the rule. For the whole algorithm, it is the last step that changed the word
+	 */
+	public static int getStep(long outcome) {
+		return (int) (outcome >>> 56);
+	}
+
+	/**
+	 * @param outcome Value returned by one of the outcome methods of {@link RSLPAutomata}
+	 * @return Index of the applied rule in the list of {@link RSLPSuffixStrippingRules} used by the step
+	 */
+	public static int getRuleIndex(long outcome) {
+		return (int) (outcome >>> 48) & 0xFF;
+	}
+
+	/**
+	 * @param outcome Value returned by one of the outcome methods of {@link RSLPAutomata}
+	 * @return The applied rule or null if the outcome is {@link #UNCHANGED}
+	 */
+	public static RSLPStrippingRule getRule(long outcome) {
+
+		if(outcome == UNCHANGED) return null;
+
+		return getRules(getStep(outcome))[getRuleIndex(outcome)];
+
+	}
+
+	/**
+	 * @param step One of the step constants of this class
+	 * @return The list of rules used by the step
+	 */
+	public static RSLPStrippingRule[] getRules(int step) {
+		switch(step) {
+		case PLURAL_REDUCTION:
+			return RSLPSuffixStrippingRules.PLURAL_REDUCTION_RULES;
+		case FEMININE_REDUCTION:
+			return RSLPSuffixStrippingRules.FEMININE_REDUCTION_RULES;
+		case DEGREE_REDUCTION:
+			return RSLPSuffixStrippingRules.DEGREE_REDUCTION_RULES;
+		case ADVERB_REDUCTION:
+			return RSLPSuffixStrippingRules.ADVERB_REDUCTION_RULES;
+		case NOUN_REDUCTION:
+			return RSLPSuffixStrippingRules.NOUN_REDUCTION_RULES;
+		case VERB_REDUCTION:
+			return RSLPSuffixStrippingRules.VERB_REDUCTION_RULES;
+		case VOWEL_REMOVE:
+			return RSLPSuffixStrippingRules.VOWEL_REDUCTION_RULES;
+		default:
+			throw new IllegalArgumentException("Unknown step: " + step);
+		}
+	}
+
+	/**
+	 * Applies the edit to the given word
+	 *
+	 * @param in Word given to the outcome method
+	 * @param outcome Value returned by the outcome method
+	 * @return Processed word. It is the original word if the outcome is {@link #UNCHANGED}
+	 */
+	public static String apply(String in, long outcome) {
+
+		if(outcome == UNCHANGED) return in;
+
+		//most edits only remove the suffix, which needs just the substring
+		String replacement = getReplacement(outcome);
+		if(replacement.isEmpty()) return in.substring(0, getCutPosition(outcome));
+
+		return in.substring(0, getCutPosition(outcome)) + replacement;
+
+	}
+
+	/**
+	 * Applies the edit to the given buffer, without creating any object.
+	 * The buffer must have room for the replacement, which can be one character longer than the removed suffix.
+	 *
+	 * @param buffer Buffer with the word given to the outcome method
+	 * @param offset Position of the buffer where the word starts
+	 * @param length Length of the word
+	 * @param outcome Value returned by the outcome method
+	 * @return Length of the processed word
+	 */
+	public static int apply(char[] buffer, int offset, int length, long outcome) {
+
+		if(outcome == UNCHANGED) return length;
+
+		String replacement = getReplacement(outcome);
+		int cut = getCutPosition(outcome);
+		replacement.getChars(0, replacement.length(), buffer, offset + cut);
+
+		return cut + replacement.length();
+
+	}
+
+	/**
+	 * Searches the identifier of the replacement equal to the end of the given word
+	 *
+	 * @param word Word that contains the replacement
+	 * @param start Position where the replacement starts
+	 * @return The replacement identifier or -1 if there is no replacement equal to the end of the word
+	 */
+	static int findReplacement(CharSequence word, int start) {
+
+		int length = word.length() - start;
+
+		for(int id=0; id < REPLACEMENTS.length; id++) {
+			String replacement = REPLACEMENTS[id];
+			if(replacement.length() == length) {
+				int i = 0;
+				while(i < length && replacement.charAt(i) == word.charAt(start + i)) i++;
+				if(i == length) return id;
+			}
+		}
+
+		return -1;
+
+	}
+
+}
@@ -0,0 +1,486 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPPrecomputedStems.java                                                   */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Read-only dictionary of precomputed stems, stored in a file that is memory-mapped when opened.
+ * The file is built once for a vocabulary with {@link #build(Collection, boolean, File)} and contains a minimal perfect hash
+ * of the words (hash and displace), so a lookup costs one hash and one comparison. Words that are not in the vocabulary are
+ * processed by {@link RSLPAutomata}.
+ * Opening the file does not read it: the pages are loaded on demand by the operating system and shared by every process that maps the same file.
+ *
+ * <p>File layout: header, one displacement per bucket, one record per word (word offset, stem offset, word length, stem length) and the characters of the words and stems.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPPrecomputedStems {
+
+	/** Identifies the files written by {@link #build(Collection, boolean, File)} */
+	private static final int MAGIC = 0x52534C50;
+
+	/** Version of the file format */
+	private static final int FORMAT_VERSION = 1;
+
+	/** Size in bytes of the header: magic, format version, rule set version, accents, words, buckets and characters */
+	private static final int HEADER_SIZE = 32;
+
+	/** Size in bytes of the record of each word */
+	private static final int RECORD_SIZE = 12;
+
+	/** Average number of words in each bucket of the perfect hash */
+	private static final int WORDS_PER_BUCKET = 4;
+
+	/** The file mapped in memory */
+	private final MappedByteBuffer buffer;
+
+	/** Informs if the stems keep the accents (use the constants of {@link RSLPAutomata}) */
+	private final boolean accents;
+
+	/** Number of words in the file */
+	private final int words;
+
+	/** Number of buckets of the perfect hash */
+	private final int buckets;
+
+	/** Position of the records in the file */
+	private final int recordsStart;
+
+	/** Position of the characters in the file */
+	private final int charsStart;
+
+	/** Stemmer used by each thread for the words that are not in the file */
+	private final ThreadLocal<RSLPAutomata> stemmer = new ThreadLocal<RSLPAutomata>() {
+		protected RSLPAutomata initialValue() {
+			return new RSLPAutomata();
+		}
+	};
+
+	private RSLPPrecomputedStems(MappedByteBuffer buffer) throws IOException {
+
+		if(buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("The file does not contain precomputed stems");
+		}
+		if(buffer.getInt(4) != FORMAT_VERSION) {
+			throw new IOException("Unsupported precomputed stems version");
+		}
+		if(buffer.getLong(8) != RSLPSuffixStrippingRules.VERSION) {
+			throw new IOException("The precomputed stems were built with different rules or exceptions");
+		}
+
+		this.buffer = buffer;
+		this.accents = buffer.getInt(16) != 0;
+		this.words = buffer.getInt(20);
+		this.buckets = buffer.getInt(24);
+		this.recordsStart = HEADER_SIZE + buckets * 4;
+		this.charsStart = recordsStart + words * RECORD_SIZE;
+
+	}
+
+	/**
+	 * Maps the given file in memory. The content is not read, so the time does not depend on the size of the file.
+	 *
+	 * @param file File written by {@link #build(Collection, boolean, File)}
+	 * @return The precomputed stems
+	 * @throws IOException If the file can not be read, or was built with other rules (see {@link RSLPSuffixStrippingRules#VERSION})
+	 */
+	public static RSLPPrecomputedStems open(File file) throws IOException {
+
+		RSLPPrecomputedStems stems;
+
+		RandomAccessFile input = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = input.getChannel();
+			//the mapping remains valid after the channel is closed
+			stems = new RSLPPrecomputedStems(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		} finally {
+			input.close();
+		}
+
+		RSLPEvents.rulesLoaded(file.getPath(), RSLPSuffixStrippingRules.VERSION, stems.size());
+
+		return stems;
+
+	}
+
+	/**
+	 * Returns the stem of the given word, using the precomputed value when the word is in the file
+	 *
+	 * @param word Word to be processed
+	 * @return Processed word, the same returned by {@link RSLPAutomata#apply(String, boolean)}
+	 */
+	public String apply(String word) {
+
+		int index = indexOf(word);
+		if(index < 0) {
+			return stemmer.get().apply(word, accents);
+		}
+
+		int record = recordsStart + index * RECORD_SIZE;
+		int start = charsStart + buffer.getInt(record + 4) * 2;
+		int length = buffer.getChar(record + 10);
+
+		char[] stem = new char[length];
+		for(int i=0; i < length; i++) {
+			stem[i] = buffer.getChar(start + i * 2);
+		}
+
+		return new String(stem);
+
+	}
+
+	/**
+	 * Searches the position of the given word in the file
+	 *
+	 * @param word Word to be searched
+	 * @return Position of the word (from zero to size - 1) or -1 if the word is not in the file
+	 */
+	public int indexOf(CharSequence word) {
+
+		if(words == 0) return -1;
+
+		long hash = hash(word);
+		int displacement = buffer.getInt(HEADER_SIZE + bucket(hash, buckets) * 4);
+
+		int index;
+		if(displacement < 0) {
+			index = -displacement - 1;
+		}else if(displacement > 0) {
+			index = slot(hash, displacement, words);
+		}else {
+			//empty bucket
+			return -1;
+		}
+
+		//the perfect hash gives a position for any word, so it is necessary to compare it with the stored word
+		int record = recordsStart + index * RECORD_SIZE;
+		int start = charsStart + buffer.getInt(record) * 2;
+		int length = buffer.getChar(record + 8);
+
+		if(length != word.length()) return -1;
+		for(int i=0; i < length; i++) {
+			if(buffer.getChar(start + i * 2) != word.charAt(i)) return -1;
+		}
+
+		return index;
+
+	}
+
+	/**
+	 * @return Number of words in the file
+	 */
+	public int size() {
+		return words;
+	}
+
+	/**
+	 * @return TRUE if the stems keep the accents, FALSE if the remove accents step was executed
+	 */
+	public boolean keepsAccents() {
+		return accents;
+	}
+
+	/**
+	 * Processes every word of the vocabulary (using all processors) and writes the file read by {@link #open(File)}
+	 *
+	 * @param vocabulary Words to be processed. Repeated words are stored once
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @param file File to be written
+	 * @throws IOException If the file can not be written
+	 */
+	public static void build(Collection<String> vocabulary, final boolean accents, File file) throws IOException {
+
+		//the lengths are stored in two bytes, longer words are left to the automata
+		LinkedHashSet<String> distinct = new LinkedHashSet<String>();
+		for(String word : vocabulary) {
+			if(word.length() < Character.MAX_VALUE) distinct.add(word);
+		}
+
+		final String[] words = distinct.toArray(new String[distinct.size()]);
+		final String[] stems = new String[words.length];
+		int n = words.length;
+
+		stemAll(words, stems, accents);
+
+		int buckets = Math.max(1, n / WORDS_PER_BUCKET);
+		int[] displacements = new int[buckets];
+		int[] slots = perfectHash(words, buckets, displacements);
+
+		//records and characters in slot order
+		int[] wordOffset = new int[n];
+		int[] stemOffset = new int[n];
+		StringBuilder chars = new StringBuilder();
+		for(int i=0; i < n; i++) {
+			String word = words[slots[i]];
+			String stem = stems[slots[i]];
+			wordOffset[i] = chars.length();
+			chars.append(word);
+			if(word.startsWith(stem)) {
+				//the stem is usually the beginning of the word, so it does not need its own characters
+				stemOffset[i] = wordOffset[i];
+			}else {
+				stemOffset[i] = chars.length();
+				chars.append(stem);
+			}
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+		try {
+
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(RSLPSuffixStrippingRules.VERSION);
+			out.writeInt(accents == RSLPAutomata.KEEP_ACCENTS ? 1 : 0);
+			out.writeInt(n);
+			out.writeInt(buckets);
+			out.writeInt(chars.length());
+
+			for(int b=0; b < buckets; b++) {
+				out.writeInt(displacements[b]);
+			}
+			for(int i=0; i < n; i++) {
+				out.writeInt(wordOffset[i]);
+				out.writeInt(stemOffset[i]);
+				out.writeChar(words[slots[i]].length());
+				out.writeChar(stems[slots[i]].length());
+			}
+			for(int i=0; i < chars.length(); i++) {
+				out.writeChar(chars.charAt(i));
+			}
+
+		} finally {
+			out.close();
+		}
+
+	}
+
+	/**
+	 * Processes the words in parallel, each thread with its own stemmer
+	 */
+	private static void stemAll(final String[] words, final String[] stems, final boolean accents) throws IOException {
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		final int chunk = (words.length + threads - 1) / threads;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+
+			List<Future<?>> tasks = new ArrayList<Future<?>>();
+			for(int t=0; t < threads; t++) {
+				final int start = t * chunk;
+				final int end = Math.min(words.length, start + chunk);
+				tasks.add(executor.submit(new Runnable() {
+					public void run() {
+						RSLPAutomata rslp = new RSLPAutomata();
+						for(int i=start; i < end; i++) {
+							stems[i] = rslp.apply(words[i], accents);
+						}
+					}
+				}));
+			}
+
+			for(Future<?> task : tasks) {
+				task.get();
+			}
+
+		} catch(Exception e) {
+			throw new IOException("Error while processing the vocabulary", e);
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	/**
+	 * Builds the perfect hash, filling the displacement of each bucket
+	 *
+	 * @return For each slot, the index of the word stored in it
+	 */
+	private static int[] perfectHash(String[] words, int buckets, int[] displacements) {
+
+		int n = words.length;
+		long[] hashes = new long[n];
+
+		//groups the words by bucket (counting sort)
+		int[] bucketStart = new int[buckets + 1];
+		for(int i=0; i < n; i++) {
+			hashes[i] = hash(words[i]);
+			bucketStart[bucket(hashes[i], buckets) + 1]++;
+		}
+		for(int b=0; b < buckets; b++) {
+			bucketStart[b + 1] += bucketStart[b];
+		}
+		int[] members = new int[n];
+		int[] fill = bucketStart.clone();
+		for(int i=0; i < n; i++) {
+			members[fill[bucket(hashes[i], buckets)]++] = i;
+		}
+
+		//the biggest buckets are placed first, while the table is still empty
+		int maxSize = 0;
+		for(int b=0; b < buckets; b++) {
+			maxSize = Math.max(maxSize, bucketStart[b + 1] - bucketStart[b]);
+		}
+
+		int[] slots = new int[n];
+		boolean[] used = new boolean[n];
+		int[] candidate = new int[maxSize];
+		int nextFree = 0;
+
+		for(int size=maxSize; size > 0; size--) {
+			for(int b=0; b < buckets; b++) {
+
+				int start = bucketStart[b];
+				if(bucketStart[b + 1] - start != size) continue;
+
+				if(size == 1) {
+					//a single word goes straight to the next free slot, stored as a negative displacement
+					while(used[nextFree]) nextFree++;
+					used[nextFree] = true;
+					slots[nextFree] = members[start];
+					displacements[b] = -nextFree - 1;
+					continue;
+				}
+
+				for(int displacement=1; ; displacement++) {
+					int placed = 0;
+					while(placed < size) {
+						int position = slot(hashes[members[start + placed]], displacement, n);
+						if(used[position]) break;
+						used[position] = true;
+						candidate[placed++] = position;
+					}
+					if(placed == size) {
+						for(int k=0; k < size; k++) {
+							slots[candidate[k]] = members[start + k];
+						}
+						displacements[b] = displacement;
+						break;
+					}
+					//the displacement failed, so the slots taken by this bucket are released
+					for(int k=0; k < placed; k++) {
+						used[candidate[k]] = false;
+					}
+				}
+
+			}
+		}
+
+		return slots;
+
+	}
+
+	private static long hash(CharSequence word) {
+		long hash = 0xCBF29CE484222325L;
+		for(int i=0; i < word.length(); i++) {
+			hash ^= word.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	private static int bucket(long hash, int buckets) {
+		return (int) ((hash >>> 1) % buckets);
+	}
+
+	private static int slot(long hash, int displacement, int words) {
+		return (int) ((mix(hash + displacement * 0x9E3779B97F4A7C15L) >>> 1) % words);
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		return hash ^ (hash >>> 33);
+	}
+
+	/**
+	 * Builds a file of precomputed stems from a vocabulary file (UTF-8, one word per line)
+	 *
+	 * @param args Vocabulary file, output file and, optionally, 'remove-accents'
+	 * @throws IOException If the files can not be read or written
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 2) {
+			System.err.println("Usage: RSLPPrecomputedStems <vocabulary file> <output file> [remove-accents]");
+			return;
+		}
+
+		List<String> vocabulary = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(args[0]), StandardCharsets.UTF_8));
+		try {
+			String line;
+			while((line = reader.readLine()) != null) {
+				line = line.trim();
+				if(line.isEmpty() == false) vocabulary.add(line);
+			}
+		} finally {
+			reader.close();
+		}
+
+		boolean accents = args.length > 2 && args[2].equals("remove-accents") ? RSLPAutomata.REMOVE_ACCENTS : RSLPAutomata.KEEP_ACCENTS;
+
+		long startTime = System.nanoTime();
+		build(vocabulary, accents, new File(args[1]));
+		System.out.println(vocabulary.size() + " words processed in " + (System.nanoTime() - startTime) / 1000000 + " ms");
+
+	}
+
+}
@@ -0,0 +1,509 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStemCache.java                                                          */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Bounded cache of stems in front of {@link RSLPAutomata}, safe to be shared between threads.
+ * The entries are split in segments, each one with its own lock and its own least recently used order.
+ *
+ * <p>The hot entries can be saved in a snapshot file (on shutdown or periodically) and loaded again after a restart,
+ * so the cache does not start cold. The snapshot carries a checksum and the {@link RSLPSuffixStrippingRules#VERSION}
+ * of the rules used to produce the stems: a corrupted snapshot or one written with other rules or exceptions is ignored.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPStemCache {
+
+	/** Identifies the snapshot files */
+	private static final int MAGIC = 0x52534C43;
+
+	/** Version of the snapshot file format */
+	private static final int FORMAT_VERSION = 1;
+
+	/** Size in bytes of the snapshot header: magic, format version, rule set version, accents, entries, payload size and checksum */
+	private static final int HEADER_SIZE = 33;
+
+	/** Tag of a stem stored as the number of characters of the word that it keeps */
+	private static final int STEM_PREFIX = 0;
+
+	/** Tag of a stem stored with its own characters */
+	private static final int STEM_CHARS = 1;
+
+	/** Biggest number of bytes of a string written by {@link DataOutputStream#writeUTF(String)} */
+	private static final int MAX_UTF_LENGTH = 65535;
+
+	/** Informs if the stems keep the accents (use the constants of {@link RSLPAutomata}) */
+	private final boolean accents;
+
+	private final Segment[] segments;
+
+	/** Stemmer used by each thread when the word is not in the cache */
+	private final ThreadLocal<RSLPAutomata> stemmer = new ThreadLocal<RSLPAutomata>() {
+		protected RSLPAutomata initialValue() {
+			return new RSLPAutomata();
+		}
+	};
+
+	/**
+	 * Creates an empty cache
+	 *
+	 * @param capacity Maximum number of words kept in the cache
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPStemCache(int capacity, boolean accents) {
+
+		int count = 1;
+		while(count < Runtime.getRuntime().availableProcessors() * 4 && count * 64 < capacity) count <<= 1;
+
+		this.accents = accents;
+		this.segments = new Segment[count];
+		for(int i=0; i < count; i++) {
+			segments[i] = new Segment(Math.max(1, capacity / count));
+		}
+
+	}
+
+	/**
+	 * Returns the stem of the given word, processing it only if it is not in the cache
+	 *
+	 * @param word Word to be processed
+	 * @return Processed word, the same returned by {@link RSLPAutomata#apply(String, boolean)}
+	 */
+	public String apply(String word) {
+
+		Segment segment = segmentFor(word);
+		String stem = segment.get(word);
+
+		if(stem == null) {
+			stem = stemmer.get().apply(word, accents);
+			segment.put(word, stem);
+		}
+
+		return stem;
+
+	}
+
+	/**
+	 * @param word Word to be searched
+	 * @return The stem stored for the word or null if the word is not in the cache
+	 */
+	public String get(String word) {
+		return segmentFor(word).get(word);
+	}
+
+	/**
+	 * Stores the stem of the word, removing the least recently used word of the segment if it is full
+	 *
+	 * @param word Processed word
+	 * @param stem Stem of the word
+	 */
+	public void put(String word, String stem) {
+		segmentFor(word).put(word, stem);
+	}
+
+	/**
+	 * @return Number of words in the cache
+	 */
+	public int size() {
+		int size = 0;
+		for(int i=0; i < segments.length; i++) {
+			size += segments[i].size();
+		}
+		return size;
+	}
+
+	/**
+	 * @return Number of searches that found the word in the cache
+	 */
+	public long getHits() {
+		long hits = 0;
+		for(int i=0; i < segments.length; i++) {
+			synchronized(segments[i]) {
+				hits += segments[i].hits;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * @return Number of searches that did not find the word in the cache
+	 */
+	public long getMisses() {
+		long misses = 0;
+		for(int i=0; i < segments.length; i++) {
+			synchronized(segments[i]) {
+				misses += segments[i].misses;
+			}
+		}
+		return misses;
+	}
+
+	/**
+	 * @return Number of words removed to give room to new ones
+	 */
+	public long getEvictions() {
+		long evictions = 0;
+		for(int i=0; i < segments.length; i++) {
+			synchronized(segments[i]) {
+				evictions += segments[i].evictions;
+			}
+		}
+		return evictions;
+	}
+
+	/**
+	 * @return TRUE if the stems keep the accents, FALSE if the remove accents step is executed
+	 */
+	public boolean keepsAccents() {
+		return accents;
+	}
+
+	/**
+	 * Writes the entries of the cache to the given file, the least recently used first.
+	 * The file is written in a temporary file and then renamed, so a reader never sees a partial snapshot.
+	 * Entries with a word or stem longer than 65535 bytes (in modified UTF-8) do not fit in the file and are skipped.
+	 *
+	 * @param file Snapshot file
+	 * @return Number of entries written
+	 * @throws IOException If the file can not be written
+	 */
+	public int writeSnapshot(File file) throws IOException {
+
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(payload);
+		int entries = 0;
+
+		for(int i=0; i < segments.length; i++) {
+
+			List<String> pairs = new ArrayList<String>();
+			synchronized(segments[i]) {
+				for(Map.Entry<String, String> entry : segments[i].map.entrySet()) {
+					pairs.add(entry.getKey());
+					pairs.add(entry.getValue());
+				}
+			}
+
+			for(int j=0; j < pairs.size(); j += 2) {
+				String word = pairs.get(j);
+				String stem = pairs.get(j + 1);
+				if(utfLength(word) > MAX_UTF_LENGTH || utfLength(stem) > MAX_UTF_LENGTH) {
+					//writeUTF would fail, and such words are rare enough to be processed again after a restart
+					continue;
+				}
+				data.writeUTF(word);
+				if(word.startsWith(stem)) {
+					//most stems are the beginning of the word, so only their length is stored
+					data.writeByte(STEM_PREFIX);
+					data.writeShort(stem.length());
+				}else {
+					data.writeByte(STEM_CHARS);
+					data.writeUTF(stem);
+				}
+				entries++;
+			}
+
+		}
+		data.flush();
+
+		CRC32 crc = new CRC32();
+		crc.update(payload.toByteArray(), 0, payload.size());
+
+		File temporary = new File(file.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary), 1 << 16));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(RSLPSuffixStrippingRules.VERSION);
+			out.writeBoolean(accents);
+			out.writeInt(entries);
+			out.writeInt(payload.size());
+			out.writeLong(crc.getValue());
+			payload.writeTo(out);
+		} finally {
+			out.close();
+		}
+
+		Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		return entries;
+
+	}
+
+	/**
+	 * @return Number of bytes of the text in modified UTF-8, as written by {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static int utfLength(String text) {
+
+		//even with 3 bytes for each character the text fits
+		if(text.length() <= MAX_UTF_LENGTH / 3) return text.length();
+
+		int length = 0;
+		for(int i=0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+		}
+
+		return length;
+
+	}
+
+	/**
+	 * Loads a snapshot written by {@link #writeSnapshot(File)}. The file is memory-mapped and checked before any entry is loaded.
+	 * Snapshots written with other rules or exceptions, with the other accents option or corrupted are ignored.
+	 *
+	 * @param file Snapshot file
+	 * @return Number of entries loaded. Zero if the file does not exist or was ignored
+	 * @throws IOException If the file exists but can not be read
+	 */
+	public int loadSnapshot(File file) throws IOException {
+
+		if(file.exists() == false) return 0;
+
+		MappedByteBuffer buffer;
+		RandomAccessFile input = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = input.getChannel();
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} finally {
+			input.close();
+		}
+
+		if(buffer.capacity() < HEADER_SIZE
+				|| buffer.getInt(0) != MAGIC
+				|| buffer.getInt(4) != FORMAT_VERSION
+				|| buffer.getLong(8) != RSLPSuffixStrippingRules.VERSION
+				|| (buffer.get(16) != 0) != accents) {
+			return 0;
+		}
+
+		int entries = buffer.getInt(17);
+		int size = buffer.getInt(21);
+		long checksum = buffer.getLong(25);
+		if(size < 0 || HEADER_SIZE + size > buffer.capacity()) return 0;
+
+		buffer.position(HEADER_SIZE);
+		buffer.limit(HEADER_SIZE + size);
+		ByteBuffer payload = buffer.slice();
+
+		CRC32 crc = new CRC32();
+		crc.update(payload.duplicate());
+		if(crc.getValue() != checksum) return 0;
+
+		DataInputStream data = new DataInputStream(new ByteBufferInputStream(payload));
+		for(int i=0; i < entries; i++) {
+			String word = data.readUTF();
+			String stem;
+			if(data.readByte() == STEM_PREFIX) {
+				stem = word.substring(0, data.readUnsignedShort());
+			}else {
+				stem = data.readUTF();
+			}
+			put(word, stem);
+		}
+
+		RSLPEvents.rulesLoaded(file.getPath(), RSLPSuffixStrippingRules.VERSION, entries);
+
+		return entries;
+
+	}
+
+	/**
+	 * Loads the snapshot in a background thread, so the application starts without waiting for it.
+	 * Words requested before they are loaded are simply processed by the automata.
+	 *
+	 * @param file Snapshot file
+	 * @return The thread that loads the snapshot
+	 */
+	public Thread loadSnapshotInBackground(final File file) {
+
+		Thread thread = new Thread(new Runnable() {
+			public void run() {
+				try {
+					loadSnapshot(file);
+				} catch(IOException e) {
+					//the snapshot is only an optimization, the cache keeps working without it
+				}
+			}
+		}, "rslp-cache-snapshot-loader");
+		thread.setDaemon(true);
+		thread.start();
+
+		return thread;
+
+	}
+
+	/**
+	 * Writes a snapshot when the virtual machine shuts down
+	 *
+	 * @param file Snapshot file
+	 */
+	public void writeSnapshotOnShutdown(final File file) {
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+			public void run() {
+				try {
+					writeSnapshot(file);
+				} catch(IOException e) {
+					//nothing can be done during the shutdown, the next start will be cold
+				}
+			}
+		}, "rslp-cache-snapshot-writer"));
+	}
+
+	/**
+	 * Writes a snapshot periodically in the given executor. The executor belongs to the caller, which shuts it down when it is
+	 * no longer needed, so the same executor can serve several caches.
+	 *
+	 * @param file Snapshot file
+	 * @param period Time between two snapshots
+	 * @param unit Unit of the period
+	 * @param executor Executor that runs the snapshots
+	 * @return The scheduled task. Cancel it to stop the snapshots
+	 */
+	public ScheduledFuture<?> scheduleSnapshots(final File file, long period, TimeUnit unit, ScheduledExecutorService executor) {
+
+		return executor.scheduleWithFixedDelay(new Runnable() {
+			public void run() {
+				try {
+					writeSnapshot(file);
+				} catch(IOException e) {
+					//the next period tries again
+				}
+			}
+		}, period, period, unit);
+
+	}
+
+	private Segment segmentFor(String word) {
+		int hash = word.hashCode();
+		hash ^= hash >>> 16;
+		return segments[hash & (segments.length - 1)];
+	}
+
+	/**
+	 * Part of the cache with its own lock. The map is kept in access order, so the first entry is the least recently used.
+	 */
+	private static final class Segment {
+
+		private final LinkedHashMap<String, String> map;
+
+		private long hits;
+
+		private long misses;
+
+		private long evictions;
+
+		Segment(final int capacity) {
+			this.map = new LinkedHashMap<String, String>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+				protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+					if(size() > capacity) {
+						evictions++;
+						RSLPEvents.cacheEvicted("RSLPStemCache", eldest.getKey());
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		synchronized String get(String word) {
+			String stem = map.get(word);
+			if(stem == null) misses++;
+			else hits++;
+			return stem;
+		}
+
+		synchronized void put(String word, String stem) {
+			map.put(word, stem);
+		}
+
+		synchronized int size() {
+			return map.size();
+		}
+
+	}
+
+	/**
+	 * Reads the bytes of a buffer, allowing the use of {@link DataInputStream} over the mapped snapshot
+	 */
+	private static final class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		public int read(byte[] bytes, int offset, int length) {
+			if(buffer.hasRemaining() == false) return -1;
+			length = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, length);
+			return length;
+		}
+
+	}
+
+}
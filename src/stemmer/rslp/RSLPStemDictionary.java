@@ -0,0 +1,492 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStemDictionary.java                                                     */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Maps each distinct stem produced by {@link RSLPAutomata} to a dense integer identifier (0, 1, 2, ...).
+ * The dictionary is append-only: once a stem receives an identifier it is never changed or removed.
+ * Stems are stored in primitive arrays (one shared char pool plus offsets) and indexed by an open addressing hash table,
+ * so no String is kept per stem. Lookups run without locking (optimistic reads), insertions are serialized.
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPStemDictionary {
+
+	/** Value returned by {@link #lookup(CharSequence)} when the stem is not in the dictionary */
+	public static final int NOT_FOUND = -1;
+
+	/** Identifies the files written by {@link #write(OutputStream)} */
+	private static final int MAGIC = 0x52534C44;
+
+	/** Version of the file format written by {@link #write(OutputStream)} */
+	private static final int FORMAT_VERSION = 1;
+
+	/** Flag used in the file format when every stem character fits in one byte (ISO-8859-1) */
+	private static final int ONE_BYTE_CHARS = 1;
+
+	/** Informs if the stems are produced keeping or removing the accents (use the constants of {@link RSLPAutomata}) */
+	private final boolean accents;
+
+	/** Stemmer used by each thread in {@link #apply(String)}, since {@link RSLPAutomata} can not be shared between threads */
+	private final ThreadLocal<RSLPAutomata> stemmer = new ThreadLocal<RSLPAutomata>() {
+		protected RSLPAutomata initialValue() {
+			return new RSLPAutomata();
+		}
+	};
+
+	private final StampedLock lock = new StampedLock();
+
+	/** Characters of all stems, one after another in identifier order */
+	private char[] chars;
+
+	/** Start of each stem in 'chars'. The stem 'id' ends where the stem 'id + 1' starts */
+	private int[] offsets;
+
+	/** Hash of each stem, kept to avoid recomputing it when the table grows */
+	private int[] hashes;
+
+	/** Open addressing table. Each slot stores (id + 1), zero means an empty slot */
+	private int[] table;
+
+	/** Number of stems in the dictionary */
+	private volatile int size;
+
+	/**
+	 * Creates an empty dictionary
+	 *
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step in {@link #apply(String)}
+	 */
+	public RSLPStemDictionary(boolean accents) {
+		this(accents, 1024);
+	}
+
+	/**
+	 * Creates an empty dictionary with room for the given number of stems before growing
+	 *
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step in {@link #apply(String)}
+	 * @param expectedStems Number of distinct stems expected
+	 */
+	public RSLPStemDictionary(boolean accents, int expectedStems) {
+
+		int capacity = Math.max(16, expectedStems);
+
+		this.accents = accents;
+		this.chars = new char[capacity * 8];
+		this.offsets = new int[capacity + 1];
+		this.hashes = new int[capacity];
+		this.table = new int[tableSizeFor(capacity)];
+
+	}
+
+	/**
+	 * Applies the stemming process to the given word and returns the identifier of the resulting stem, adding it when it is new
+	 *
+	 * @param word Word to be processed
+	 * @return Identifier of the stem of the word
+	 */
+	public int apply(String word) {
+		return add(stemmer.get().apply(word, accents));
+	}
+
+	/**
+	 * Returns the identifier of the given stem, adding it to the dictionary when it is not found
+	 *
+	 * @param stem Stem to be searched
+	 * @return Identifier of the stem
+	 */
+	public int add(CharSequence stem) {
+
+		int hash = hash(stem);
+		int id = find(stem, hash);
+		if(id != NOT_FOUND) return id;
+
+		long stamp = lock.writeLock();
+		try {
+			//another thread can have added the same stem while we were waiting for the lock
+			id = search(stem, hash, chars, offsets, table);
+			if(id != NOT_FOUND) return id;
+			return insert(stem, hash);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+
+	}
+
+	/**
+	 * Searches the identifier of the given stem without changing the dictionary
+	 *
+	 * @param stem Stem to be searched
+	 * @return Identifier of the stem or {@link #NOT_FOUND}
+	 */
+	public int lookup(CharSequence stem) {
+		return find(stem, hash(stem));
+	}
+
+	/**
+	 * Returns the stem stored with the given identifier
+	 *
+	 * @param id Identifier returned by {@link #add(CharSequence)} or {@link #apply(String)}
+	 * @return The stem
+	 */
+	public String getStem(int id) {
+
+		long stamp = lock.readLock();
+		try {
+			checkId(id);
+			return new String(chars, offsets[id], offsets[id + 1] - offsets[id]);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+
+	}
+
+	/**
+	 * Copies the stem stored with the given identifier to the given buffer, avoiding the creation of a String
+	 *
+	 * @param id Identifier returned by {@link #add(CharSequence)} or {@link #apply(String)}
+	 * @param dest Buffer that receives the stem
+	 * @param destOffset Position of the buffer where the stem starts
+	 * @return Length of the stem
+	 */
+	public int getStem(int id, char[] dest, int destOffset) {
+
+		long stamp = lock.readLock();
+		try {
+			checkId(id);
+			int length = offsets[id + 1] - offsets[id];
+			System.arraycopy(chars, offsets[id], dest, destOffset, length);
+			return length;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+
+	}
+
+	/**
+	 * @return Number of stems in the dictionary. The identifiers go from zero to (size - 1)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return TRUE if the stems keep the accents, FALSE if the remove accents step is executed
+	 */
+	public boolean keepsAccents() {
+		return accents;
+	}
+
+	/**
+	 * Writes the dictionary to the given stream. The stream is not closed.
+	 * The stems are stored in identifier order with one byte per character when possible, so the identifiers are kept when the dictionary is read again.
+	 *
+	 * @param out Stream where the dictionary is written
+	 * @throws IOException If the stream can not be written
+	 */
+	public void write(OutputStream out) throws IOException {
+
+		long stamp = lock.readLock();
+		try {
+
+			int count = size;
+			int charCount = offsets[count];
+
+			int encoding = ONE_BYTE_CHARS;
+			for(int i=0; i < charCount; i++) {
+				if(chars[i] > 0xFF) {
+					encoding = 0;
+					break;
+				}
+			}
+
+			DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+			data.writeInt(MAGIC);
+			data.writeInt(FORMAT_VERSION);
+			data.writeBoolean(accents);
+			data.writeByte(encoding);
+			data.writeInt(count);
+			data.writeInt(charCount);
+
+			//the length of each stem (in most cases a single byte)
+			for(int id=0; id < count; id++) {
+				writeVarInt(data, offsets[id + 1] - offsets[id]);
+			}
+
+			for(int i=0; i < charCount; i++) {
+				if(encoding == ONE_BYTE_CHARS) {
+					data.writeByte(chars[i]);
+				}else {
+					data.writeChar(chars[i]);
+				}
+			}
+
+			data.flush();
+
+		} finally {
+			lock.unlockRead(stamp);
+		}
+
+	}
+
+	/**
+	 * Reads a dictionary written by {@link #write(OutputStream)}. The stream is not closed.
+	 * Only the hash table is rebuilt, none of the words is processed again.
+	 *
+	 * @param in Stream where the dictionary is read
+	 * @return The dictionary with the same identifiers it had when it was written
+	 * @throws IOException If the stream can not be read or it does not contain a dictionary
+	 */
+	public static RSLPStemDictionary read(InputStream in) throws IOException {
+
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+		if(data.readInt() != MAGIC) {
+			throw new IOException("The stream does not contain a stem dictionary");
+		}
+		if(data.readInt() != FORMAT_VERSION) {
+			throw new IOException("Unsupported stem dictionary version");
+		}
+
+		boolean accents = data.readBoolean();
+		int encoding = data.readByte();
+		int count = data.readInt();
+		int charCount = data.readInt();
+		if(count < 0 || charCount < 0) {
+			throw new IOException("Corrupted stem dictionary");
+		}
+
+		RSLPStemDictionary dictionary = new RSLPStemDictionary(accents, count);
+		if(dictionary.chars.length < charCount) {
+			dictionary.chars = new char[charCount];
+		}
+
+		int[] offsets = dictionary.offsets;
+		for(int id=0; id < count; id++) {
+			int length = readVarInt(data);
+			//compared without adding, so a big length can not overflow
+			if(length < 0 || length > charCount - offsets[id]) {
+				throw new IOException("Corrupted stem dictionary");
+			}
+			offsets[id + 1] = offsets[id] + length;
+		}
+		if(offsets[count] != charCount) {
+			throw new IOException("Corrupted stem dictionary");
+		}
+
+		char[] chars = dictionary.chars;
+		for(int i=0; i < charCount; i++) {
+			chars[i] = encoding == ONE_BYTE_CHARS ? (char) data.readUnsignedByte() : data.readChar();
+		}
+
+		for(int id=0; id < count; id++) {
+			int hash = hash(chars, offsets[id], offsets[id + 1]);
+			dictionary.hashes[id] = hash;
+			place(dictionary.table, hash, id);
+		}
+		dictionary.size = count;
+
+		return dictionary;
+
+	}
+
+	/**
+	 * Searches the stem without locking. If a writer changes the arrays during the search, it is repeated holding the read lock.
+	 */
+	private int find(CharSequence stem, int hash) {
+
+		long stamp = lock.tryOptimisticRead();
+		if(stamp != 0L) {
+			char[] chars = this.chars;
+			int[] offsets = this.offsets;
+			int[] table = this.table;
+			try {
+				int id = search(stem, hash, chars, offsets, table);
+				if(lock.validate(stamp)) return id;
+			} catch(ArrayIndexOutOfBoundsException e) {
+				//the arrays were replaced while we were reading them, the validation below fails
+			}
+		}
+
+		stamp = lock.readLock();
+		try {
+			return search(stem, hash, this.chars, this.offsets, this.table);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+
+	}
+
+	private static int search(CharSequence stem, int hash, char[] chars, int[] offsets, int[] table) {
+
+		int mask = table.length - 1;
+		int slot = hash & mask;
+		int length = stem.length();
+
+		while(table[slot] != 0) {
+			int id = table[slot] - 1;
+			int start = offsets[id];
+			if(offsets[id + 1] - start == length) {
+				int i = 0;
+				while(i < length && chars[start + i] == stem.charAt(i)) i++;
+				if(i == length) return id;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		return NOT_FOUND;
+
+	}
+
+	/**
+	 * Adds a new stem. Must be called holding the write lock.
+	 */
+	private int insert(CharSequence stem, int hash) {
+
+		int id = size;
+		int length = stem.length();
+		int start = offsets[id];
+
+		if(id + 1 >= offsets.length) {
+			int capacity = offsets.length * 2;
+			offsets = Arrays.copyOf(offsets, capacity + 1);
+			hashes = Arrays.copyOf(hashes, capacity);
+		}
+		if(start + length > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(chars.length * 2, start + length));
+		}
+		//keep the load factor under 1/2
+		if((id + 1) * 2 > table.length) {
+			int[] grown = new int[table.length * 2];
+			for(int i=0; i < id; i++) {
+				place(grown, hashes[i], i);
+			}
+			table = grown;
+		}
+
+		for(int i=0; i < length; i++) {
+			chars[start + i] = stem.charAt(i);
+		}
+		offsets[id + 1] = start + length;
+		hashes[id] = hash;
+		place(table, hash, id);
+
+		size = id + 1;
+
+		return id;
+
+	}
+
+	private static void place(int[] table, int hash, int id) {
+		int mask = table.length - 1;
+		int slot = hash & mask;
+		while(table[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		table[slot] = id + 1;
+	}
+
+	private void checkId(int id) {
+		if(id < 0 || id >= size) {
+			throw new IndexOutOfBoundsException("Stem identifier: " + id);
+		}
+	}
+
+	private static int tableSizeFor(int stems) {
+		int tableSize = 16;
+		while(tableSize < stems * 2) tableSize <<= 1;
+		return tableSize;
+	}
+
+	private static int hash(CharSequence stem) {
+		int hash = 0;
+		for(int i=0; i < stem.length(); i++) {
+			hash = 31 * hash + stem.charAt(i);
+		}
+		return mix(hash);
+	}
+
+	private static int hash(char[] chars, int start, int end) {
+		int hash = 0;
+		for(int i=start; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+		return mix(hash);
+	}
+
+	/** Spreads the bits of the hash, since the table uses only the lowest ones */
+	private static int mix(int hash) {
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+		int shift = 0;
+		int b;
+		do {
+			//an int needs at most 5 bytes
+			if(shift > 28) {
+				throw new IOException("Corrupted stem dictionary");
+			}
+			b = in.readByte();
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while((b & 0x80) != 0);
+		return value;
+	}
+
+}
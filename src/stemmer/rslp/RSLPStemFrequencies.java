@@ -0,0 +1,286 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStemFrequencies.java                                                    */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Frequency table of stems, built by the {@link Collector} returned by {@link #collector(boolean)}:
+ * <code>Stream&lt;String&gt; words ... ; RSLPStemFrequencies frequencies = words.parallel().collect(RSLPStemFrequencies.collector(RSLPAutomata.KEEP_ACCENTS));</code>
+ *
+ * <p>The collector creates a table for each part of the stream processed by a thread, with its own {@link RSLPAutomata}. The table
+ * is an open addressing hash table with the stems in an array and the counts in an array of long, so counting a word does not
+ * create any object besides its stem. The tables are merged at the end.</p>
+ *
+ * <p>Instances are not thread safe while they are being filled.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public final class RSLPStemFrequencies {
+
+	private static final int INITIAL_CAPACITY = 1 << 10;
+
+	private final boolean accents;
+
+	private RSLPAutomata automata;
+
+	private String[] stems = new String[INITIAL_CAPACITY];
+
+	private long[] counts = new long[INITIAL_CAPACITY];
+
+	private int size;
+
+	private long total;
+
+	/**
+	 * Creates an empty table
+	 *
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPStemFrequencies(boolean accents) {
+		this.accents = accents;
+	}
+
+	/**
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @return Collector that counts the stems of the words of a stream (sequential or parallel)
+	 */
+	public static Collector<String, RSLPStemFrequencies, RSLPStemFrequencies> collector(final boolean accents) {
+		return new Collector<String, RSLPStemFrequencies, RSLPStemFrequencies>() {
+
+			public Supplier<RSLPStemFrequencies> supplier() {
+				return new Supplier<RSLPStemFrequencies>() {
+					public RSLPStemFrequencies get() {
+						return new RSLPStemFrequencies(accents);
+					}
+				};
+			}
+
+			public BiConsumer<RSLPStemFrequencies, String> accumulator() {
+				return new BiConsumer<RSLPStemFrequencies, String>() {
+					public void accept(RSLPStemFrequencies frequencies, String word) {
+						frequencies.addWord(word);
+					}
+				};
+			}
+
+			public BinaryOperator<RSLPStemFrequencies> combiner() {
+				return new BinaryOperator<RSLPStemFrequencies>() {
+					public RSLPStemFrequencies apply(RSLPStemFrequencies first, RSLPStemFrequencies second) {
+						//the smaller table is merged into the bigger one
+						if(first.size < second.size) {
+							second.addAll(first);
+							return second;
+						}
+						first.addAll(second);
+						return first;
+					}
+				};
+			}
+
+			public Function<RSLPStemFrequencies, RSLPStemFrequencies> finisher() {
+				return new Function<RSLPStemFrequencies, RSLPStemFrequencies>() {
+					public RSLPStemFrequencies apply(RSLPStemFrequencies frequencies) {
+						return frequencies;
+					}
+				};
+			}
+
+			public Set<Characteristics> characteristics() {
+				return Collections.unmodifiableSet(EnumSet.of(Characteristics.UNORDERED, Characteristics.IDENTITY_FINISH));
+			}
+
+		};
+	}
+
+	/**
+	 * Counts the stem of the given word
+	 *
+	 * @param word Word to be processed
+	 */
+	public void addWord(String word) {
+		if(automata == null) {
+			automata = new RSLPAutomata();
+		}
+		add(RSLPStemFunction.stem(automata, word, accents), 1);
+	}
+
+	/**
+	 * Adds the given count to the stem
+	 *
+	 * @param stem Stem (already processed)
+	 * @param count Number of occurrences
+	 */
+	public void add(String stem, long count) {
+
+		int slot = find(stem);
+		if(stems[slot] == null) {
+			stems[slot] = stem;
+			size++;
+		}
+		counts[slot] += count;
+		total += count;
+
+		if(size * 2 > stems.length) {
+			resize();
+		}
+
+	}
+
+	/**
+	 * Adds the counts of the other table to this table
+	 *
+	 * @param other Table with stems processed with the same accents option
+	 */
+	public void addAll(RSLPStemFrequencies other) {
+		for(int i=0; i < other.stems.length; i++) {
+			if(other.stems[i] != null) {
+				add(other.stems[i], other.counts[i]);
+			}
+		}
+	}
+
+	/**
+	 * @param stem Stem to be searched
+	 * @return Number of words counted with the given stem
+	 */
+	public long getFrequency(String stem) {
+		int slot = find(stem);
+		return stems[slot] == null ? 0 : counts[slot];
+	}
+
+	/**
+	 * @return Number of distinct stems
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return Number of words counted
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * @return The stems, from the most frequent to the least frequent (stems with the same frequency in alphabetical order)
+	 */
+	public List<String> getStems() {
+
+		List<String> sorted = new ArrayList<String>(size);
+		for(int i=0; i < stems.length; i++) {
+			if(stems[i] != null) {
+				sorted.add(stems[i]);
+			}
+		}
+
+		Collections.sort(sorted, new Comparator<String>() {
+			public int compare(String first, String second) {
+				int compare = Long.compare(getFrequency(second), getFrequency(first));
+				return compare != 0 ? compare : first.compareTo(second);
+			}
+		});
+
+		return sorted;
+
+	}
+
+	/**
+	 * @return Map of the stems to their frequencies, in the order of {@link #getStems()}
+	 */
+	public Map<String, Long> toMap() {
+		Map<String, Long> map = new LinkedHashMap<String, Long>();
+		for(String stem : getStems()) {
+			map.put(stem, getFrequency(stem));
+		}
+		return map;
+	}
+
+	/**
+	 * @return TRUE if the stems keep the accents, FALSE if the remove accents step is executed
+	 */
+	public boolean keepsAccents() {
+		return accents;
+	}
+
+	/**
+	 * @return Position of the stem in the table or the empty position where it should be
+	 */
+	private int find(String stem) {
+		int mask = stems.length - 1;
+		int hash = stem.hashCode() * 0x9E3779B9;
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		while(stems[slot] != null && stems[slot].equals(stem) == false) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void resize() {
+
+		String[] oldStems = stems;
+		long[] oldCounts = counts;
+
+		stems = new String[oldStems.length * 2];
+		counts = new long[oldStems.length * 2];
+
+		for(int i=0; i < oldStems.length; i++) {
+			if(oldStems[i] != null) {
+				int slot = find(oldStems[i]);
+				stems[slot] = oldStems[i];
+				counts[slot] = oldCounts[i];
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStemFunction.java                                                       */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.util.function.Function;
+
+/**
+ * Mapping function from words to stems that can be used by parallel streams, as in
+ * <code>tokens.parallel().map(new RSLPStemFunction(RSLPAutomata.KEEP_ACCENTS))</code>.
+ *
+ * <p>Each thread uses its own {@link RSLPAutomata}, so the function can be shared by any number of threads. The stem is found by
+ * {@link RSLPAutomata#applyOutcome(CharSequence)}, which edits a buffer of the thread instead of creating a String for each step:
+ * only the stem is created, and not even it when the word has no suffix to remove.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPStemFunction implements Function<String, String> {
+
+	private final boolean accents;
+
+	private final ThreadLocal<RSLPAutomata> stemmer = new ThreadLocal<RSLPAutomata>() {
+		protected RSLPAutomata initialValue() {
+			return new RSLPAutomata();
+		}
+	};
+
+	/**
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPStemFunction(boolean accents) {
+		this.accents = accents;
+	}
+
+	/**
+	 * @param word Word to be processed
+	 * @return Stem of the word
+	 */
+	public String apply(String word) {
+		return stem(stemmer.get(), word, accents);
+	}
+
+	/**
+	 * Finds the stem of the word with the given stemmer, creating only the String of the stem
+	 *
+	 * @param automata Stemmer used only by the current thread
+	 * @param word Word to be processed
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @return Stem of the word
+	 */
+	static String stem(RSLPAutomata automata, String word, boolean accents) {
+		String stem = RSLPOutcome.apply(word, automata.applyOutcome(word));
+		return accents == RSLPAutomata.KEEP_ACCENTS ? stem : automata.removeAccents(stem);
+	}
+
+	/**
+	 * @return TRUE if the stems keep the accents, FALSE if the remove accents step is executed
+	 */
+	public boolean keepsAccents() {
+		return accents;
+	}
+
+}
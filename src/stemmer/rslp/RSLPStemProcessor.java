@@ -0,0 +1,792 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStemProcessor.java                                                      */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive stage that stems the words received from a publisher and publishes the results, in the order of the words, to one
+ * subscriber. Created by {@link #forWords(boolean)} (a word becomes a {@link RSLPStem}) or by {@link #forLists(boolean)} (a list
+ * of words becomes a list of {@link RSLPStem}).
+ *
+ * <p>The received items are grouped in micro-batches, processed by a bounded pool of threads (each one with its own
+ * {@link RSLPAutomata}). A batch is sent to the pool when it is full, when it waits for the maximum delay or when the publisher has
+ * no more requested items to send. The results wait for the demand of the subscriber: at most <code>capacity</code> items are
+ * requested from the publisher and not yet delivered, so a slow subscriber slows down the publisher instead of filling the memory.</p>
+ *
+ * <p>The queue depth (items received and not yet delivered), the size of the batches and the latency (from the arrival of an item
+ * to its delivery) are measured, to choose the size of the batches: bigger batches cost less per item but wait longer.</p>
+ *
+ * @param <T> Type of the received items
+ * @param <R> Type of the published items
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPStemProcessor<T, R> implements RSLPFlow.Processor<T, R> {
+
+	/** Number of items of a batch when not informed */
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	/** Maximum time (milliseconds) that an item waits for its batch to be filled when not informed */
+	public static final long DEFAULT_MAX_DELAY = 5;
+
+	/** Maximum number of items requested from the publisher and not yet delivered when not informed */
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	private final Mapper<T, R> mapper;
+
+	private final boolean accents;
+
+	private final int batchSize;
+
+	private final long maxDelay;
+
+	private final int capacity;
+
+	/** Number of delivered items that makes a new request to the publisher */
+	private final int requestThreshold;
+
+	/** Workers that process the batches and timer of the maximum delay */
+	private final ScheduledThreadPoolExecutor executor;
+
+	private final ThreadLocal<RSLPAutomata> stemmer = new ThreadLocal<RSLPAutomata>() {
+		protected RSLPAutomata initialValue() {
+			return new RSLPAutomata();
+		}
+	};
+
+	private final RSLPFlow.Subscription subscription = new RSLPFlow.Subscription() {
+
+		public void request(long n) {
+			synchronized(RSLPStemProcessor.this) {
+				if(n <= 0) {
+					if(error == null) error = new IllegalArgumentException("The number of requested items must be positive: " + n);
+				}else {
+					demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+				}
+			}
+			drain();
+		}
+
+		public void cancel() {
+			RSLPFlow.Subscription upstream;
+			synchronized(RSLPStemProcessor.this) {
+				if(terminated) return;
+				terminated = true;
+				upstream = RSLPStemProcessor.this.upstream;
+			}
+			if(upstream != null) upstream.cancel();
+			executor.shutdownNow();
+		}
+
+	};
+
+	//the fields below are guarded by this object
+
+	private RSLPFlow.Subscription upstream;
+
+	private RSLPFlow.Subscriber<? super R> downstream;
+
+	/** Batch receiving items */
+	private Batch<T, R> batch;
+
+	/** Batches already processed, by sequence number, waiting to be delivered */
+	private final Map<Long, Batch<T, R>> finished = new HashMap<Long, Batch<T, R>>();
+
+	/** Batch being delivered */
+	private Batch<T, R> head;
+
+	/** Sequence number of the next batch sent to the pool */
+	private long submitted;
+
+	/** Sequence number of the next batch to be delivered */
+	private long delivered;
+
+	private long demand;
+
+	/** Items requested from the publisher and not yet received */
+	private long outstanding;
+
+	/** Delivered items not yet requested again from the publisher */
+	private int replenish;
+
+	private int queued;
+
+	private boolean completed;
+
+	private Throwable error;
+
+	/** Informs if the error came from the publisher, which does not need to be cancelled */
+	private boolean upstreamFailed;
+
+	private boolean terminated;
+
+	private boolean draining;
+
+	private boolean missed;
+
+	private int maxQueued;
+
+	private long batches;
+
+	private long batchedItems;
+
+	private long deliveredItems;
+
+	private long totalLatency;
+
+	private long maxLatency;
+
+	private RSLPStemProcessor(Mapper<T, R> mapper, boolean accents, int batchSize, long maxDelay, int threads, int capacity) {
+
+		if(batchSize <= 0 || threads <= 0 || capacity < batchSize) {
+			throw new IllegalArgumentException("Invalid batch size (" + batchSize + "), threads (" + threads + ") or capacity (" + capacity + ")");
+		}
+
+		this.mapper = mapper;
+		this.accents = accents;
+		this.batchSize = batchSize;
+		this.maxDelay = maxDelay;
+		this.capacity = capacity;
+		this.requestThreshold = Math.max(1, Math.min(batchSize, capacity / 4));
+
+		this.executor = new ScheduledThreadPoolExecutor(threads, new ThreadFactory() {
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "RSLPStemProcessor");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.executor.setRemoveOnCancelPolicy(true);
+
+	}
+
+	/**
+	 * Creates a stage with the default batch size, maximum delay and capacity, and one thread per processor
+	 *
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @return Stage that publishes the stem of each received word
+	 */
+	public static RSLPStemProcessor<CharSequence, RSLPStem> forWords(boolean accents) {
+		return forWords(accents, DEFAULT_BATCH_SIZE, DEFAULT_MAX_DELAY, Runtime.getRuntime().availableProcessors(), DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @param batchSize Number of words processed together by a thread
+	 * @param maxDelay Maximum time (milliseconds) that a word waits for its batch to be filled, or zero to wait until the batch is full
+	 * or the publisher has no more requested words
+	 * @param threads Number of threads that process the batches
+	 * @param capacity Maximum number of words requested from the publisher and not yet delivered (at least the batch size)
+	 * @return Stage that publishes the stem of each received word
+	 */
+	public static RSLPStemProcessor<CharSequence, RSLPStem> forWords(boolean accents, int batchSize, long maxDelay, int threads, int capacity) {
+		return new RSLPStemProcessor<CharSequence, RSLPStem>(new Mapper<CharSequence, RSLPStem>() {
+			public RSLPStem map(RSLPAutomata automata, CharSequence item, boolean accents) {
+				String word = item.toString();
+				return new RSLPStem(word, RSLPStemFunction.stem(automata, word, accents));
+			}
+		}, accents, batchSize, maxDelay, threads, capacity);
+	}
+
+	/**
+	 * Creates a stage that does not group the lists (each list is already a batch), without delay, with the default capacity and
+	 * one thread per processor
+	 *
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @return Stage that publishes the stems of each received list of words, in the order of the words
+	 */
+	public static RSLPStemProcessor<List<? extends CharSequence>, List<RSLPStem>> forLists(boolean accents) {
+		int threads = Runtime.getRuntime().availableProcessors();
+		return forLists(accents, 1, 0, threads, Math.max(1, threads * 4));
+	}
+
+	/**
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @param batchSize Number of lists processed together by a thread
+	 * @param maxDelay Maximum time (milliseconds) that a list waits for its batch to be filled, or zero to wait until the batch is full
+	 * or the publisher has no more requested lists
+	 * @param threads Number of threads that process the batches
+	 * @param capacity Maximum number of lists requested from the publisher and not yet delivered (at least the batch size)
+	 * @return Stage that publishes the stems of each received list of words, in the order of the words
+	 */
+	public static RSLPStemProcessor<List<? extends CharSequence>, List<RSLPStem>> forLists(boolean accents, int batchSize, long maxDelay, int threads, int capacity) {
+		return new RSLPStemProcessor<List<? extends CharSequence>, List<RSLPStem>>(new Mapper<List<? extends CharSequence>, List<RSLPStem>>() {
+			public List<RSLPStem> map(RSLPAutomata automata, List<? extends CharSequence> item, boolean accents) {
+				List<RSLPStem> stems = new ArrayList<RSLPStem>(item.size());
+				for(CharSequence sequence : item) {
+					String word = sequence.toString();
+					stems.add(new RSLPStem(word, RSLPStemFunction.stem(automata, word, accents)));
+				}
+				return stems;
+			}
+		}, accents, batchSize, maxDelay, threads, capacity);
+	}
+
+	public void subscribe(RSLPFlow.Subscriber<? super R> subscriber) {
+
+		synchronized(this) {
+			if(downstream == null) {
+				downstream = subscriber;
+				subscriber = null;
+			}
+		}
+
+		//only one subscriber is accepted
+		if(subscriber != null) {
+			subscriber.onSubscribe(new RSLPFlow.Subscription() {
+				public void request(long n) {
+				}
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("RSLPStemProcessor accepts only one subscriber"));
+			return;
+		}
+
+		downstream.onSubscribe(subscription);
+		drain();
+
+	}
+
+	public void onSubscribe(RSLPFlow.Subscription subscription) {
+
+		synchronized(this) {
+			if(upstream != null || terminated) {
+				subscription.cancel();
+				return;
+			}
+			upstream = subscription;
+			outstanding = capacity;
+		}
+
+		subscription.request(capacity);
+
+	}
+
+	public void onNext(T item) {
+
+		Batch<T, R> full = null;
+
+		synchronized(this) {
+
+			if(terminated) return;
+
+			outstanding--;
+			queued++;
+			maxQueued = Math.max(maxQueued, queued);
+
+			if(batch == null) {
+				batch = new Batch<T, R>(batchSize);
+				if(maxDelay > 0) {
+					final Batch<T, R> waiting = batch;
+					executor.schedule(new Runnable() {
+						public void run() {
+							flush(waiting);
+						}
+					}, maxDelay, TimeUnit.MILLISECONDS);
+				}
+			}
+
+			batch.add(item, System.nanoTime());
+
+			//the batch is sent when it is full or when no more items will arrive before new requests
+			if(batch.size == batchSize || outstanding == 0) {
+				full = detach();
+			}
+
+		}
+
+		if(full != null) {
+			submit(full);
+		}
+
+	}
+
+	public void onError(Throwable throwable) {
+		synchronized(this) {
+			if(error == null) {
+				error = throwable;
+				upstreamFailed = true;
+			}
+		}
+		drain();
+	}
+
+	public void onComplete() {
+
+		Batch<T, R> last;
+
+		synchronized(this) {
+			completed = true;
+			last = batch != null ? detach() : null;
+		}
+
+		if(last != null) {
+			submit(last);
+		}
+		drain();
+
+	}
+
+	/**
+	 * Sends the batch to the pool if it is still receiving items after the maximum delay
+	 */
+	private void flush(Batch<T, R> waiting) {
+
+		Batch<T, R> late = null;
+		synchronized(this) {
+			if(batch == waiting) late = detach();
+		}
+
+		if(late != null) {
+			submit(late);
+		}
+
+	}
+
+	/**
+	 * Removes the batch that is receiving items, giving it a sequence number. Called with the lock.
+	 */
+	private Batch<T, R> detach() {
+		Batch<T, R> detached = batch;
+		detached.sequence = submitted++;
+		batch = null;
+		batches++;
+		batchedItems += detached.size;
+		return detached;
+	}
+
+	private void submit(final Batch<T, R> batch) {
+
+		try {
+			executor.execute(new Runnable() {
+				public void run() {
+					try {
+						boolean watched = RSLPEvents.isEnabled();
+						long start = watched ? System.nanoTime() : 0;
+						RSLPAutomata automata = stemmer.get();
+						for(int i=0; i < batch.size; i++) {
+							batch.results[i] = mapper.map(automata, batch.item(i), accents);
+							batch.items[i] = null;
+						}
+						if(watched) {
+							report(batch, System.nanoTime() - start);
+						}
+					} catch(Throwable throwable) {
+						batch.failure = throwable;
+					}
+					synchronized(RSLPStemProcessor.this) {
+						finished.put(batch.sequence, batch);
+					}
+					drain();
+				}
+			});
+		} catch(RuntimeException e) {
+			//the pool was stopped by a cancellation
+			if(executor.isShutdown() == false) throw e;
+		}
+
+	}
+
+	/**
+	 * Reports the processed batch to {@link RSLPEvents}, counting the words of its results
+	 */
+	private static void report(Batch<?, ?> batch, long nanos) {
+
+		Set<String> distinct = new HashSet<String>();
+		int tokens = 0;
+
+		for(int i=0; i < batch.size; i++) {
+			Object result = batch.results[i];
+			if(result instanceof RSLPStem) {
+				distinct.add(((RSLPStem) result).getWord());
+				tokens++;
+			}else if(result instanceof List) {
+				for(Object stem : (List<?>) result) {
+					distinct.add(((RSLPStem) stem).getWord());
+					tokens++;
+				}
+			}
+		}
+
+		RSLPEvents.batchStemmed("RSLPStemProcessor", tokens, distinct.size(), nanos);
+
+	}
+
+	/**
+	 * Delivers the processed items while there is demand, in the order of the batches, and the final signal. Only one thread
+	 * delivers at a time: a thread that finds another one delivering asks it to check again.
+	 */
+	@SuppressWarnings("unchecked")
+	private void drain() {
+
+		synchronized(this) {
+			if(draining) {
+				missed = true;
+				return;
+			}
+			draining = true;
+		}
+
+		while(true) {
+
+			R item = null;
+			Throwable failure = null;
+			boolean cancel = false;
+			boolean complete = false;
+			long request = 0;
+			RSLPFlow.Subscriber<? super R> subscriber;
+			RSLPFlow.Subscription source;
+
+			synchronized(this) {
+
+				subscriber = downstream;
+				source = upstream;
+
+				if(terminated || subscriber == null) {
+					draining = false;
+					return;
+				}
+
+				if((head == null || head.next == head.size) && finished.containsKey(delivered)) {
+					head = finished.remove(delivered++);
+				}
+
+				if(error != null) {
+					failure = error;
+				}else if(head != null && head.failure != null) {
+					failure = head.failure;
+				}else if(head != null && head.next < head.size && demand > 0) {
+
+					int index = head.next++;
+					item = (R) head.results[index];
+					head.results[index] = null;
+					demand--;
+					queued--;
+					deliveredItems++;
+
+					long latency = System.nanoTime() - head.arrivals[index];
+					totalLatency += latency;
+					maxLatency = Math.max(maxLatency, latency);
+
+					if(completed == false && ++replenish >= requestThreshold) {
+						request = replenish;
+						outstanding += replenish;
+						replenish = 0;
+					}
+
+				}else if(completed && queued == 0) {
+					complete = true;
+				}
+
+				if(item == null && failure == null && complete == false) {
+					if(missed) {
+						missed = false;
+						continue;
+					}
+					draining = false;
+					return;
+				}
+
+				if(failure != null || complete) {
+					cancel = failure != null && upstreamFailed == false;
+					terminated = true;
+					draining = false;
+				}
+
+			}
+
+			if(failure != null) {
+				if(cancel && source != null) source.cancel();
+				executor.shutdownNow();
+				subscriber.onError(failure);
+				return;
+			}
+
+			if(complete) {
+				executor.shutdown();
+				subscriber.onComplete();
+				return;
+			}
+
+			subscriber.onNext(item);
+
+			if(request > 0 && source != null) {
+				source.request(request);
+			}
+
+		}
+
+	}
+
+	/**
+	 * @return Number of items received and not yet delivered (waiting in a batch, being processed or waiting for demand)
+	 */
+	public synchronized int getQueueDepth() {
+		return queued;
+	}
+
+	/**
+	 * @return Biggest queue depth observed
+	 */
+	public synchronized int getMaxQueueDepth() {
+		return maxQueued;
+	}
+
+	/**
+	 * @return Number of batches sent to the pool
+	 */
+	public synchronized long getBatches() {
+		return batches;
+	}
+
+	/**
+	 * @return Mean number of items of the batches sent to the pool
+	 */
+	public synchronized double getMeanBatchSize() {
+		return batches == 0 ? 0 : (double) batchedItems / batches;
+	}
+
+	/**
+	 * @return Number of items delivered to the subscriber
+	 */
+	public synchronized long getDeliveredItems() {
+		return deliveredItems;
+	}
+
+	/**
+	 * @return Mean time (nanoseconds) between the arrival of an item and its delivery
+	 */
+	public synchronized double getMeanLatency() {
+		return deliveredItems == 0 ? 0 : (double) totalLatency / deliveredItems;
+	}
+
+	/**
+	 * @return Longest time (nanoseconds) between the arrival of an item and its delivery
+	 */
+	public synchronized long getMaxLatency() {
+		return maxLatency;
+	}
+
+	/**
+	 * Measures the throughput and the latency of the stage with several batch sizes, to help choosing the batch size. The words
+	 * are generated by {@link RSLPCorpusGenerator} and the subscriber requests them in blocks of 1024.
+	 *
+	 * @param args Number of words (default 1000000) and number of threads (default one per processor)
+	 * @throws InterruptedException If interrupted while waiting for the stage
+	 */
+	public static void main(String[] args) throws InterruptedException {
+
+		int words = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+		RSLPCorpusGenerator generator = new RSLPCorpusGenerator(1);
+		final List<CharSequence> input = new ArrayList<CharSequence>(words);
+		for(int i=0; i < words; i++) {
+			input.add(generator.next());
+		}
+
+		System.out.println("batch size   words/s   mean latency (us)   max latency (us)   max queue depth");
+
+		for(int batchSize=1; batchSize <= 4096; batchSize *= 4) {
+
+			for(int run=0; run < 2; run++) {
+
+				RSLPStemProcessor<CharSequence, RSLPStem> processor = forWords(RSLPAutomata.KEEP_ACCENTS, batchSize, DEFAULT_MAX_DELAY, threads, Math.max(batchSize, DEFAULT_CAPACITY));
+				final CountDownLatch done = new CountDownLatch(1);
+
+				processor.subscribe(new RSLPFlow.Subscriber<RSLPStem>() {
+					private RSLPFlow.Subscription subscription;
+					private int received;
+					public void onSubscribe(RSLPFlow.Subscription subscription) {
+						this.subscription = subscription;
+						subscription.request(1024);
+					}
+					public void onNext(RSLPStem item) {
+						if(++received % 1024 == 0) subscription.request(1024);
+					}
+					public void onError(Throwable throwable) {
+						throwable.printStackTrace();
+						done.countDown();
+					}
+					public void onComplete() {
+						done.countDown();
+					}
+				});
+
+				long start = System.nanoTime();
+				new ListPublisher(input).subscribe(processor);
+				done.await();
+				long elapsed = System.nanoTime() - start;
+
+				//the first run warms up
+				if(run == 1) {
+					System.out.println(String.format("%10d %9d %19.1f %18d %17d", batchSize, (long) ((double) words * 1000000000L / elapsed),
+						processor.getMeanLatency() / 1000, processor.getMaxLatency() / 1000, processor.getMaxQueueDepth()));
+				}
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Publisher of the words of a list to one subscriber, sending them in the thread that requests them
+	 */
+	private static final class ListPublisher implements RSLPFlow.Publisher<CharSequence> {
+
+		private final List<CharSequence> words;
+
+		private ListPublisher(List<CharSequence> words) {
+			this.words = words;
+		}
+
+		public void subscribe(final RSLPFlow.Subscriber<? super CharSequence> subscriber) {
+			subscriber.onSubscribe(new RSLPFlow.Subscription() {
+
+				private int position;
+
+				private long demand;
+
+				private boolean sending;
+
+				private boolean cancelled;
+
+				public void request(long n) {
+
+					synchronized(this) {
+						demand += n;
+						if(sending) return;
+						sending = true;
+					}
+
+					while(true) {
+
+						CharSequence word;
+						synchronized(this) {
+							if(cancelled) return;
+							if(position == words.size()) {
+								cancelled = true;
+								break;
+							}
+							if(demand == 0) {
+								sending = false;
+								return;
+							}
+							demand--;
+							word = words.get(position++);
+						}
+
+						subscriber.onNext(word);
+
+					}
+
+					subscriber.onComplete();
+
+				}
+
+				public synchronized void cancel() {
+					cancelled = true;
+				}
+
+			});
+		}
+
+	}
+
+	/**
+	 * Converts a received item in a published item
+	 */
+	private interface Mapper<T, R> {
+
+		R map(RSLPAutomata automata, T item, boolean accents);
+
+	}
+
+	/**
+	 * Items processed together by a thread, with their results and arrival times
+	 */
+	private static final class Batch<T, R> {
+
+		private final Object[] items;
+
+		private final Object[] results;
+
+		private final long[] arrivals;
+
+		private int size;
+
+		/** Position of the next result to be delivered */
+		private int next;
+
+		private long sequence;
+
+		private Throwable failure;
+
+		Batch(int capacity) {
+			this.items = new Object[capacity];
+			this.results = new Object[capacity];
+			this.arrivals = new long[capacity];
+		}
+
+		void add(Object item, long arrival) {
+			items[size] = item;
+			arrivals[size] = arrival;
+			size++;
+		}
+
+		@SuppressWarnings("unchecked")
+		T item(int index) {
+			return (T) items[index];
+		}
+
+	}
+
+}
@@ -0,0 +1,193 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStemSpliterator.java                                                    */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator that gives the stems of the words of another spliterator, to build streams of stems that can be processed in parallel.
+ *
+ * <p>Each spliterator has its own {@link RSLPAutomata}, and a spliterator is used by a single thread at a time, so no stemmer is
+ * shared. The splits are made by the source when it can split. Sources that can not split, or split badly (as the lines of a
+ * file), give batches of words copied to arrays, which grow as more batches are taken, so the work is still divided among the
+ * threads.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPStemSpliterator implements Spliterator<String> {
+
+	/** Size of the first batch taken from a source that does not split, increased by this size in each new batch */
+	public static final int BATCH_UNIT = 1 << 10;
+
+	/** Maximum size of the batches taken from a source that does not split */
+	public static final int MAX_BATCH = 1 << 16;
+
+	/** Characteristics of the source kept by the stems: the stems are neither distinct nor sorted */
+	private static final int KEPT_CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | CONCURRENT;
+
+	private final Spliterator<String> source;
+
+	private final boolean accents;
+
+	private final RSLPAutomata automata = new RSLPAutomata();
+
+	/** Word given by the source to {@link #tryAdvance(Consumer)} */
+	private String word;
+
+	private final Consumer<String> holder = new Consumer<String>() {
+		public void accept(String word) {
+			RSLPStemSpliterator.this.word = word;
+		}
+	};
+
+	/** Size of the next batch taken from the source if it does not split */
+	private int batch = BATCH_UNIT;
+
+	/**
+	 * @param source Words to be processed
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPStemSpliterator(Spliterator<String> source, boolean accents) {
+		this.source = source;
+		this.accents = accents;
+	}
+
+	/**
+	 * Creates a stream with the stems of the words of the given stream. The new stream is parallel if the given stream is.
+	 *
+	 * @param words Words to be processed
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @return Stream of the stems, in the order of the words. Closing it closes the given stream.
+	 */
+	public static Stream<String> stem(final Stream<String> words, boolean accents) {
+		return StreamSupport.stream(new RSLPStemSpliterator(words.spliterator(), accents), words.isParallel()).onClose(new Runnable() {
+			public void run() {
+				words.close();
+			}
+		});
+	}
+
+	/**
+	 * @param words Words to be processed
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @param parallel TRUE to create a parallel stream
+	 * @return Stream of the stems, in the order of the words
+	 */
+	public static Stream<String> stem(String[] words, boolean accents, boolean parallel) {
+		return StreamSupport.stream(new RSLPStemSpliterator(Arrays.spliterator(words), accents), parallel);
+	}
+
+	/**
+	 * @param words Words to be processed
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 * @param parallel TRUE to create a parallel stream
+	 * @return Stream of the stems, in the order of the words (if the collection has an order)
+	 */
+	public static Stream<String> stem(Collection<String> words, boolean accents, boolean parallel) {
+		return StreamSupport.stream(new RSLPStemSpliterator(words.spliterator(), accents), parallel);
+	}
+
+	public boolean tryAdvance(Consumer<? super String> action) {
+
+		if(source.tryAdvance(holder) == false) return false;
+
+		String stem = RSLPStemFunction.stem(automata, word, accents);
+		word = null;
+		action.accept(stem);
+
+		return true;
+
+	}
+
+	public void forEachRemaining(final Consumer<? super String> action) {
+		source.forEachRemaining(new Consumer<String>() {
+			public void accept(String word) {
+				action.accept(RSLPStemFunction.stem(automata, word, accents));
+			}
+		});
+	}
+
+	public Spliterator<String> trySplit() {
+
+		Spliterator<String> prefix = source.trySplit();
+		if(prefix != null) {
+			return new RSLPStemSpliterator(prefix, accents);
+		}
+
+		//the source does not split: the next words are copied to an array that can be split
+		if(source.estimateSize() <= 1) return null;
+
+		int size = (int) Math.min(batch, source.estimateSize());
+		String[] words = new String[size];
+		int count = 0;
+		while(count < size && source.tryAdvance(holder)) {
+			words[count++] = word;
+		}
+		word = null;
+
+		if(count == 0) return null;
+
+		batch = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+
+		return new RSLPStemSpliterator(Spliterators.spliterator(words, 0, count, characteristics() & (ORDERED | NONNULL | IMMUTABLE)), accents);
+
+	}
+
+	public long estimateSize() {
+		return source.estimateSize();
+	}
+
+	public int characteristics() {
+		return source.characteristics() & KEPT_CHARACTERISTICS;
+	}
+
+	/**
+	 * @return TRUE if the stems keep the accents, FALSE if the remove accents step is executed
+	 */
+	public boolean keepsAccents() {
+		return accents;
+	}
+
+}
@@ -0,0 +1,254 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStepFilter.java                                                         */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.util.Random;
+
+/**
+ * Decides, looking only at the length and at the last character of the word, if a reduction step can change it.
+ * The data is derived from the lists of {@link RSLPSuffixStrippingRules}: the characters that end some suffix of the step
+ * and the smallest word that some rule of the step accepts. The automatas can only apply a rule when the word ends with
+ * its suffix, so skipping the step when this filter fails never changes the result.
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+final class RSLPStepFilter {
+
+	/** Number of steps, indexed by the step constants of {@link RSLPOutcome} */
+	static final int STEPS = 7;
+
+	/** For each step, a bitmap (256 bits) of the characters that end some suffix of the step */
+	private static final long[][] FINAL_CHARS = new long[STEPS][4];
+
+	/** For each step, the minimum length of a word changed by the step */
+	private static final int[] MIN_LENGTH = new int[STEPS];
+
+	/** Bitmap of the characters that end some suffix of any step */
+	private static final long[] ANY_FINAL_CHARS = new long[4];
+
+	/** Minimum length of a word changed by some step of the automatas */
+	private static final int MIN_STEMMABLE_LENGTH;
+
+	/** For each Latin-1 character, the first step with a suffix ending in it, or {@link #STEPS} if there is none */
+	private static final byte[] FIRST_STEP = new byte[256];
+
+	/**
+	 * Number of characters that a word must keep before the ones read by the steps to pass all the conditions of size: the minimum
+	 * lengths of the steps and the 'position' tests of RSLPAutomata, which never ask for more than the biggest 'minimum stem size'
+	 * before the position being read. Two words that keep at least this many characters and share the characters read take the same path.
+	 */
+	static final int SAFE_RESIDUAL;
+
+	static {
+
+		for(int step=0; step < STEPS; step++) {
+
+			RSLPStrippingRule[] rules = RSLPOutcome.getRules(step);
+			int minLength = Integer.MAX_VALUE;
+
+			for(int i=0; i < rules.length; i++) {
+
+				String suffix = rules[i].getSuffix();
+				char last = suffix.charAt(suffix.length() - 1);
+				FINAL_CHARS[step][last >>> 6] |= 1L << last;
+
+				//the automatas accept a residual word one character smaller than the 'minimum stem size' (see the 'position' tests in RSLPAutomata)
+				minLength = Math.min(minLength, suffix.length() + Math.max(rules[i].getStemSize() - 1, 0));
+
+			}
+
+			MIN_LENGTH[step] = minLength;
+
+		}
+
+		int minStemmable = Integer.MAX_VALUE;
+		int safeResidual = 0;
+		for(int step=0; step < STEPS; step++) {
+			for(int i=0; i < ANY_FINAL_CHARS.length; i++) {
+				ANY_FINAL_CHARS[i] |= FINAL_CHARS[step][i];
+			}
+			minStemmable = Math.min(minStemmable, MIN_LENGTH[step]);
+			safeResidual = Math.max(safeResidual, MIN_LENGTH[step]);
+			RSLPStrippingRule[] rules = RSLPOutcome.getRules(step);
+			for(int i=0; i < rules.length; i++) {
+				safeResidual = Math.max(safeResidual, rules[i].getStemSize() + 1);
+			}
+		}
+		MIN_STEMMABLE_LENGTH = minStemmable;
+		SAFE_RESIDUAL = safeResidual;
+
+		for(int c=0; c < FIRST_STEP.length; c++) {
+			int step = 0;
+			while(step < STEPS && (FINAL_CHARS[step][c >>> 6] & (1L << c)) == 0) {
+				step++;
+			}
+			FIRST_STEP[c] = (byte) step;
+		}
+
+	}
+
+	/**
+	 * Informs if some step of the automatas can change the given token. Empty tokens, tokens shorter than every rule accepts and
+	 * tokens that do not end in a character that ends some suffix (numbers, punctuation) are not changed by any step: the first
+	 * step would fail for them and would leave them for the next ones as they are.
+	 *
+	 * @param in Token to be processed
+	 * @return FALSE if the token is returned as it is by all the steps, TRUE if some step may change it
+	 */
+	static boolean isStemmable(CharSequence in) {
+		return in.length() >= MIN_STEMMABLE_LENGTH && endsLikeSuffix(in);
+	}
+
+	/**
+	 * Informs if the token ends in a character that ends some suffix of the rules, the condition of all the steps of {@link RSLPList}
+	 *
+	 * @param in Token to be processed
+	 * @return FALSE if the token is empty or if no rule can be applied to it
+	 */
+	static boolean endsLikeSuffix(CharSequence in) {
+
+		int length = in.length();
+		if(length == 0) return false;
+
+		char last = in.charAt(length - 1);
+
+		return last < 256 && (ANY_FINAL_CHARS[last >>> 6] & (1L << last)) != 0;
+
+	}
+
+	/**
+	 * Informs if the step can change the given word
+	 *
+	 * @param step One of the step constants of {@link RSLPOutcome}
+	 * @param in Word to be processed
+	 * @return FALSE if none of the rules of the step can be applied to the word, TRUE if some rule may be applied
+	 */
+	static boolean canApply(int step, CharSequence in) {
+
+		int length = in.length();
+		if(length < MIN_LENGTH[step]) return false;
+
+		char last = in.charAt(length - 1);
+
+		return last < 256 && (FINAL_CHARS[step][last >>> 6] & (1L << last)) != 0;
+
+	}
+
+	/**
+	 * Informs the first step that can change a word ending in the given character. The steps before it leave the word as it is,
+	 * so they can be skipped by all the words that end in the character.
+	 *
+	 * @param last Last character of the word
+	 * @return One of the step constants of {@link RSLPOutcome}, or {@link #STEPS} if no step can change the word
+	 */
+	static int getFirstStep(char last) {
+		return last < 256 ? FIRST_STEP[last] : STEPS;
+	}
+
+	/**
+	 * Measures the time of both stemmers on three streams of tokens: only words, words mixed with punctuation and words mixed with
+	 * numbers. The words are generated by {@link RSLPCorpusGenerator}.
+	 *
+	 * @param args Number of tokens of each stream (default 2000000)
+	 */
+	public static void main(String[] args) {
+
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 2000000;
+
+		String[] punctuation = {".", ",", ";", ":", "!", "?", "...", "(", ")", "\"", "-", "--", "'", "/", ""};
+		String[] numbers = {"0", "1", "7", "10", "42", "100", "1998", "2015", "3,14", "1.000", "42%", "12h", "R$10", "1", "2"};
+
+		RSLPCorpusGenerator generator = new RSLPCorpusGenerator(1);
+		Random random = new Random(1);
+
+		String[][] streams = new String[3][size];
+		for(int i=0; i < size; i++) {
+			streams[0][i] = generator.next();
+			streams[1][i] = random.nextBoolean() ? punctuation[random.nextInt(punctuation.length)] : streams[0][i];
+			streams[2][i] = random.nextBoolean() ? numbers[random.nextInt(numbers.length)] : streams[0][i];
+		}
+
+		String[] names = {"words", "punctuation-heavy", "number-heavy"};
+		RSLPAutomata automata = new RSLPAutomata();
+		RSLPList list = new RSLPList();
+
+		long[] automataTime = new long[streams.length];
+		long[] listTime = new long[streams.length];
+		long length = 0;
+
+		//the first run warms up
+		for(int run=0; run < 2; run++) {
+			for(int stream=0; stream < streams.length; stream++) {
+
+				String[] tokens = streams[stream];
+
+				long start = System.nanoTime();
+				for(int i=0; i < size; i++) {
+					length += automata.apply(tokens[i], RSLPAutomata.KEEP_ACCENTS).length();
+				}
+				automataTime[stream] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for(int i=0; i < size; i++) {
+					length += list.apply(tokens[i], RSLPList.KEEP_ACCENTS).length();
+				}
+				listTime[stream] = System.nanoTime() - start;
+
+			}
+		}
+
+		System.out.println("stream              skipped   RSLPAutomata (ns/token)   RSLPList (ns/token)");
+
+		for(int stream=0; stream < streams.length; stream++) {
+
+			int skipped = 0;
+			for(int i=0; i < size; i++) {
+				if(isStemmable(streams[stream][i]) == false) skipped++;
+			}
+
+			System.out.println(String.format("%-18s %7.1f%% %25.1f %21.1f", names[stream], 100.0 * skipped / size,
+				(double) automataTime[stream] / size, (double) listTime[stream] / size));
+
+		}
+
+		System.out.println(length + " characters in the stems");
+
+	}
+
+}
@@ -0,0 +1,468 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStepTimer.java                                                          */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Measures the time spent by {@link RSLPAutomata#apply(String, boolean)} in each step, for a sample of the words, to show where
+ * the stemming time goes in production. Safe to be shared between threads.
+ *
+ * <p>The timing is disabled by default. While it is disabled, the stemmer only reads one volatile field for each word. When it
+ * is enabled, each word is chosen with the probability given by {@link #setSamplingRate(double)}, and the steps of the chosen
+ * words are timed with {@link System#nanoTime()}. The latencies are added to one histogram for each step, without locks: each
+ * power of two of nanoseconds is split in four buckets of atomic counters, so a percentile is at most 25% above the real value.</p>
+ *
+ * <p>All stemmers use the shared timer unless another one is given with setTimer. The shared timer can be published as a platform
+ * MBean with {@link #register()}, and then enabled, sampled and read from any JMX client while the application runs:</p>
+ *
+ * <pre>
+ * RSLPStepTimer.register();
+ * //jconsole: stemmer.rslp:type=RSLPStepTimer, Enabled = true
+ * </pre>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPStepTimer implements RSLPStepTimerMBean {
+
+	/** Name of the MBean of the shared timer */
+	public static final String OBJECT_NAME = "stemmer.rslp:type=RSLPStepTimer";
+
+	/** Index of the remove accents step, after the step constants of {@link RSLPOutcome} */
+	public static final int REMOVE_ACCENTS = 7;
+
+	/** Index used for the time of the whole word */
+	public static final int WHOLE_WORD = 8;
+
+	/** Sampling rate of a new timer */
+	public static final double DEFAULT_SAMPLING_RATE = 0.01;
+
+	private static final int STEPS = 9;
+
+	private static final String[] STEP_NAMES = {"plural", "feminine", "degree", "adverb", "noun", "verb", "vowel", "accents", "word"};
+
+	/** Bits of the latency, after the highest one, used to choose the bucket inside a power of two */
+	private static final int SUB_BITS = 2;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	private static final int BUCKETS = 64 << SUB_BITS;
+
+	private static final RSLPStepTimer SHARED = new RSLPStepTimer();
+
+	/** Histograms of all steps, one after the other */
+	private final AtomicLongArray histograms = new AtomicLongArray(STEPS * BUCKETS);
+
+	/** Sum of the latencies of each step */
+	private final AtomicLongArray totals = new AtomicLongArray(STEPS);
+
+	private volatile boolean enabled = false;
+
+	private volatile double samplingRate;
+
+	/** A word is timed when a random positive int is smaller than this value */
+	private volatile int threshold;
+
+	public RSLPStepTimer() {
+		setSamplingRate(DEFAULT_SAMPLING_RATE);
+	}
+
+	/**
+	 * @return The timer used by the stemmers unless another one is given
+	 */
+	public static RSLPStepTimer getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Publishes the shared timer in the platform MBean server, if it is not there yet
+	 *
+	 * @return Name of the MBean
+	 * @throws JMException If the MBean can not be registered
+	 */
+	public static synchronized ObjectName register() throws JMException {
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+
+		if(server.isRegistered(name) == false) {
+			server.registerMBean(SHARED, name);
+		}
+
+		return name;
+
+	}
+
+	/**
+	 * Removes the shared timer from the platform MBean server, if it is there
+	 *
+	 * @throws JMException If the MBean can not be unregistered
+	 */
+	public static synchronized void unregister() throws JMException {
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+
+		if(server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+
+	}
+
+	/**
+	 * Decides if the next word is timed
+	 *
+	 * @return TRUE if the timing is enabled and the word was chosen
+	 */
+	boolean sample() {
+
+		if(enabled == false) return false;
+
+		int limit = threshold;
+		return limit == Integer.MAX_VALUE || (ThreadLocalRandom.current().nextInt() & Integer.MAX_VALUE) < limit;
+
+	}
+
+	/**
+	 * Adds the time since the given mark to the histogram of the step
+	 *
+	 * @param step One of the step constants of {@link RSLPOutcome} or of this class
+	 * @param mark Value of {@link System#nanoTime()} when the step started
+	 * @return Value of {@link System#nanoTime()} now, to be the mark of the next step
+	 */
+	long record(int step, long mark) {
+		long now = System.nanoTime();
+		add(step, now - mark);
+		return now;
+	}
+
+	/**
+	 * Adds a latency to the histogram of the step
+	 *
+	 * @param step One of the step constants of {@link RSLPOutcome} or of this class
+	 * @param nanos Latency in nanoseconds
+	 */
+	public void add(int step, long nanos) {
+		if(nanos < 0) nanos = 0;
+		histograms.incrementAndGet(step * BUCKETS + bucket(nanos));
+		totals.addAndGet(step, nanos);
+	}
+
+	/**
+	 * @param nanos Latency (not negative)
+	 * @return Bucket of the histogram: the values smaller than {@link #SUB_BUCKETS} have one bucket each, the others share
+	 * the {@link #SUB_BUCKETS} buckets of their power of two
+	 */
+	private static int bucket(long nanos) {
+
+		if(nanos < SUB_BUCKETS) return (int) nanos;
+
+		int highest = 63 - Long.numberOfLeadingZeros(nanos);
+		return ((highest - SUB_BITS + 1) << SUB_BITS) + (int) ((nanos >>> (highest - SUB_BITS)) & (SUB_BUCKETS - 1));
+
+	}
+
+	/**
+	 * @param bucket Bucket of the histogram
+	 * @return The biggest latency stored in the bucket
+	 */
+	private static long upperBound(int bucket) {
+
+		if(bucket < SUB_BUCKETS) return bucket;
+
+		int shift = (bucket >>> SUB_BITS) - 1;
+		long lower = (long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1))) << shift;
+		return lower + (1L << shift) - 1;
+
+	}
+
+	/**
+	 * @param step One of the step constants of {@link RSLPOutcome} or of this class
+	 * @return Number of timed executions of the step
+	 */
+	public long getCount(int step) {
+
+		long count = 0;
+		for(int i=0; i < BUCKETS; i++) {
+			count += histograms.get(step * BUCKETS + i);
+		}
+
+		return count;
+
+	}
+
+	/**
+	 * @param step One of the step constants of {@link RSLPOutcome} or of this class
+	 * @return Mean latency of the step, or zero if it was not timed
+	 */
+	public double getMean(int step) {
+		long count = getCount(step);
+		return count == 0 ? 0 : (double) totals.get(step) / count;
+	}
+
+	/**
+	 * @param step One of the step constants of {@link RSLPOutcome} or of this class
+	 * @param percentile Value between 0 and 100
+	 * @return The smallest bucket bound that is bigger or equal to the latency of the given percentage of the executions,
+	 * or zero if the step was not timed
+	 */
+	public long getPercentile(int step, double percentile) {
+
+		//the counts are copied first, since other threads can add latencies while the percentile is searched
+		long[] counts = new long[BUCKETS];
+		long count = 0;
+		for(int i=0; i < BUCKETS; i++) {
+			counts[i] = histograms.get(step * BUCKETS + i);
+			count += counts[i];
+		}
+
+		long target = (long) Math.ceil(count * percentile / 100.0);
+		long accumulated = 0;
+
+		for(int i=0; i < BUCKETS; i++) {
+			accumulated += counts[i];
+			if(accumulated >= target && accumulated > 0) return upperBound(i);
+		}
+
+		return 0;
+
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public double getSamplingRate() {
+		return samplingRate;
+	}
+
+	public void setSamplingRate(double rate) {
+
+		if(rate < 0 || rate > 1 || Double.isNaN(rate)) {
+			throw new IllegalArgumentException("The sampling rate must be between 0 and 1: " + rate);
+		}
+
+		this.threshold = rate == 1 ? Integer.MAX_VALUE : (int) (rate * Integer.MAX_VALUE);
+		this.samplingRate = rate;
+
+	}
+
+	public long getRuleSetVersion() {
+		return RSLPSuffixStrippingRules.VERSION;
+	}
+
+	public String[] getSteps() {
+		return STEP_NAMES.clone();
+	}
+
+	public long[] getCounts() {
+
+		long[] counts = new long[STEPS];
+		for(int step=0; step < STEPS; step++) {
+			counts[step] = getCount(step);
+		}
+
+		return counts;
+
+	}
+
+	public double[] getMeanNanos() {
+
+		double[] means = new double[STEPS];
+		for(int step=0; step < STEPS; step++) {
+			means[step] = getMean(step);
+		}
+
+		return means;
+
+	}
+
+	public long[] getP50Nanos() {
+		return getPercentiles(50);
+	}
+
+	public long[] getP90Nanos() {
+		return getPercentiles(90);
+	}
+
+	public long[] getP99Nanos() {
+		return getPercentiles(99);
+	}
+
+	public long[] getP999Nanos() {
+		return getPercentiles(99.9);
+	}
+
+	public long[] getMaxNanos() {
+		return getPercentiles(100);
+	}
+
+	private long[] getPercentiles(double percentile) {
+
+		long[] values = new long[STEPS];
+		for(int step=0; step < STEPS; step++) {
+			values[step] = getPercentile(step, percentile);
+		}
+
+		return values;
+
+	}
+
+	public long percentileNanos(String step, double percentile) {
+
+		for(int i=0; i < STEPS; i++) {
+			if(STEP_NAMES[i].equals(step)) return getPercentile(i, percentile);
+		}
+
+		throw new IllegalArgumentException("Unknown step: " + step);
+
+	}
+
+	public String getReport() {
+
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%-10s %10s %10s %8s %8s %8s %8s %10s%n", "step", "count", "mean (ns)", "p50", "p90", "p99", "p99.9", "max"));
+
+		for(int step=0; step < STEPS; step++) {
+			long count = getCount(step);
+			if(count == 0) continue;
+			report.append(String.format("%-10s %10d %10.1f %8d %8d %8d %8d %10d%n", STEP_NAMES[step], count, getMean(step),
+				getPercentile(step, 50), getPercentile(step, 90), getPercentile(step, 99), getPercentile(step, 99.9), getPercentile(step, 100)));
+		}
+
+		report.append(String.format("rule set version %016x%n", getRuleSetVersion()));
+
+		return report.toString();
+
+	}
+
+	public void reset() {
+
+		for(int i=0; i < histograms.length(); i++) {
+			histograms.set(i, 0);
+		}
+
+		for(int step=0; step < STEPS; step++) {
+			totals.set(step, 0);
+		}
+
+	}
+
+	/**
+	 * Measures the cost of the timing (disabled, and enabled with some sampling rates) on a corpus (one word per line) and prints
+	 * the latencies of the steps
+	 *
+	 * @param args The corpus file
+	 * @throws IOException If the file can not be read
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 1) {
+			System.err.println("Usage: RSLPStepTimer <corpus file>");
+			return;
+		}
+
+		List<String> words = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(args[0]), StandardCharsets.UTF_8));
+		try {
+			String line;
+			while((line = reader.readLine()) != null) {
+				line = line.trim();
+				if(line.isEmpty() == false) words.add(line);
+			}
+		} finally {
+			reader.close();
+		}
+
+		RSLPAutomata automata = new RSLPAutomata();
+		RSLPStepTimer timer = new RSLPStepTimer();
+		automata.setTimer(timer);
+
+		double[] rates = {0, 0.001, 0.01, 0.1, 1};
+
+		//the first run warms up
+		for(int run=0; run < 2; run++) {
+
+			for(int i=-1; i < rates.length; i++) {
+
+				timer.setEnabled(i >= 0);
+				if(i >= 0) timer.setSamplingRate(rates[i]);
+				timer.reset();
+
+				long length = 0;
+				long start = System.nanoTime();
+				for(int repeat=0; repeat < 5; repeat++) {
+					for(String word : words) {
+						length += automata.apply(word, RSLPAutomata.REMOVE_ACCENTS).length();
+					}
+				}
+				long elapsed = System.nanoTime() - start;
+
+				if(run == 1) {
+					System.out.println(String.format("%-10s %8.1f ns/word %10d timed words (%d characters)", i < 0 ? "disabled" : "rate " + rates[i],
+						(double) elapsed / (5.0 * words.size()), timer.getCount(WHOLE_WORD), length));
+				}
+
+			}
+
+		}
+
+		System.out.println();
+		System.out.print(timer.getReport());
+
+	}
+
+}
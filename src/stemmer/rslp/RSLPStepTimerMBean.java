@@ -0,0 +1,131 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPStepTimerMBean.java                                                     */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+/**
+ * Management interface of {@link RSLPStepTimer}. The arrays have one value for each step, in the order of {@link #getSteps()},
+ * and the latencies are in nanoseconds.
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public interface RSLPStepTimerMBean {
+
+	/**
+	 * @return TRUE if the sampled words are being timed
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param enabled TRUE to start timing the sampled words, FALSE to stop
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * @return Fraction of the words that are timed, between 0 and 1
+	 */
+	double getSamplingRate();
+
+	/**
+	 * @param rate Fraction of the words that are timed, between 0 and 1
+	 */
+	void setSamplingRate(double rate);
+
+	/**
+	 * @return Version of the rules and exceptions used by the stemmer (see {@link RSLPSuffixStrippingRules#VERSION})
+	 */
+	long getRuleSetVersion();
+
+	/**
+	 * @return Names of the steps
+	 */
+	String[] getSteps();
+
+	/**
+	 * @return Number of timed executions of each step
+	 */
+	long[] getCounts();
+
+	/**
+	 * @return Mean latency of each step
+	 */
+	double[] getMeanNanos();
+
+	/**
+	 * @return Median latency of each step
+	 */
+	long[] getP50Nanos();
+
+	/**
+	 * @return 90th percentile of the latency of each step
+	 */
+	long[] getP90Nanos();
+
+	/**
+	 * @return 99th percentile of the latency of each step
+	 */
+	long[] getP99Nanos();
+
+	/**
+	 * @return 99.9th percentile of the latency of each step
+	 */
+	long[] getP999Nanos();
+
+	/**
+	 * @return Maximum latency of each step
+	 */
+	long[] getMaxNanos();
+
+	/**
+	 * @return A table with the count, mean and percentiles of each step
+	 */
+	String getReport();
+
+	/**
+	 * @param step Name of the step, one of {@link #getSteps()}
+	 * @param percentile Value between 0 and 100
+	 * @return The latency of the given percentile of the step
+	 */
+	long percentileNanos(String step, double percentile);
+
+	/**
+	 * Clears the histograms
+	 */
+	void reset();
+
+}
@@ -0,0 +1,423 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPSuffixSortedBatch.java                                                  */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stems a batch of words sorted by their reversed characters, so the words that share a suffix are stemmed one after the other and
+ * the path taken by the automatas in the first of them decides the stem of the next ones.
+ *
+ * <p>The automatas read the word from the end, and a stem depends only on the characters read, on the length of the word and on
+ * the searches in the exception lists. The first word of a suffix is stemmed through a {@link RSLPTracedWord}, which records the
+ * first position read and the searches. A next word reuses the stem when it ends with the same characters read, when its size gives
+ * the same result to all the conditions of size (the same length, or both words keep at least {@link RSLPStepFilter#SAFE_RESIDUAL}
+ * characters before the ones read) and when each search in the exception lists, made again with its own characters before the
+ * suffix, gives the same result. Its stem is then its own characters before the suffix followed by the stemmed suffix of the first
+ * word. When any of these checks fails, the word is stemmed through the traced word and its path is the one reused from then on.</p>
+ *
+ * <p>The words are copied to one array, as in {@link RSLPFinalCharBatch}, and sorted by a radix sort on their last characters,
+ * taken from the end. The order only decides how many words find the path of a previous one: the checks above never depend on it,
+ * so the sort looks at a few characters and the words that share more than them stay in the order given. A word equal to the
+ * previous one takes its stem without any check. The stems are returned in the order of the given words, the same returned by
+ * {@link RSLPAutomata#apply(String, boolean)}.</p>
+ *
+ * <p>Instances keep their arrays between batches and are not thread safe.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPSuffixSortedBatch {
+
+	/** Number of characters, from the end of the words, used to sort them */
+	private static final int SORTED_CHARS = 6;
+
+	private final RSLPAutomata automata = new RSLPAutomata();
+
+	private final RSLPTracedWord traced = new RSLPTracedWord();
+
+	/** Word given to the exception lists when a search is made again */
+	private final RSLPWordBuffer candidate = new RSLPWordBuffer();
+
+	private final boolean accents;
+
+	/** Characters of the words, each one followed by a free position */
+	private char[] chars = new char[1024];
+
+	private int[] offsets = new int[64];
+
+	private int[] lengths = new int[64];
+
+	/** Positions of the words in the order of their reversed characters */
+	private int[] order = new int[64];
+
+	/** Second array of positions for the radix sort */
+	private int[] sorted = new int[64];
+
+	/** Last characters of each word as digits of the radix sort, from the end */
+	private byte[] digits = new byte[64 * SORTED_CHARS];
+
+	private final int[] counts = new int[257];
+
+	/** Array of {@link #candidate} */
+	private char[] candidateChars = new char[32];
+
+	/** Position of the word whose path is being reused, or -1 if there is none */
+	private int decided;
+
+	/** Word whose path is being reused, as it was given */
+	private String decidedWord;
+
+	/** First position read in the word whose path is being reused */
+	private int residual;
+
+	/** Length of the stem of the word whose path is being reused, or -1 if the word was not changed */
+	private int decidedStem;
+
+	/** Number of words that reused the path of a previous word in the last batch */
+	private int reused;
+
+	/**
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPSuffixSortedBatch(boolean accents) {
+		this.accents = accents;
+	}
+
+	/**
+	 * Stems the words, sorted by their reversed characters
+	 *
+	 * @param words Words to be processed
+	 * @return The stem of each word, in the order of the words
+	 */
+	public String[] stem(String[] words) {
+
+		int count = words.length;
+		pack(words);
+
+		String[] stems = new String[count];
+		decided = -1;
+		reused = 0;
+
+		//the words that no step can change (numbers, punctuation) are neither sorted nor stemmed
+		int stemmable = 0;
+		for(int i=0; i < count; i++) {
+			int length = lengths[i];
+			if(length > 0 && RSLPStepFilter.getFirstStep(chars[offsets[i] + length - 1]) < RSLPStepFilter.STEPS) {
+				order[stemmable++] = i;
+			} else {
+				stems[i] = accents == RSLPAutomata.KEEP_ACCENTS ? words[i] : automata.removeAccents(words[i]);
+			}
+		}
+
+		sort(stemmable);
+
+		for(int position=0; position < stemmable; position++) {
+
+			int i = order[position];
+			String stem = words[i];
+
+			if(position > 0 && stem.equals(words[order[position - 1]])) {
+				stems[i] = stems[order[position - 1]];
+				reused++;
+				continue;
+			}
+
+			int stemLength;
+
+			if(decided >= 0 && reuse(i)) {
+				stemLength = decidedStem < 0 ? -1 : copyStem(i);
+				reused++;
+			} else {
+				int length = lengths[i];
+				stemLength = automata.trace(chars, offsets[i], length, RSLPStepFilter.getFirstStep(chars[offsets[i] + length - 1]), traced);
+				decided = i;
+				decidedWord = stem;
+				residual = traced.getLowest();
+				decidedStem = stemLength;
+			}
+
+			if(stemLength >= 0) {
+				stem = new String(chars, offsets[i], stemLength);
+			}
+
+			stems[i] = accents == RSLPAutomata.KEEP_ACCENTS ? stem : automata.removeAccents(stem);
+
+		}
+
+		return stems;
+
+	}
+
+	/**
+	 * @return Number of words of the last batch that reused the path of a previous word instead of being stemmed
+	 */
+	public int getReused() {
+		return reused;
+	}
+
+	/**
+	 * Checks if the word takes the same path of the word given by {@link #decided}
+	 *
+	 * @param i Position of the word
+	 * @return TRUE if the word ends with the characters read in the decided word, if both give the same result to the conditions of
+	 * size and if the searches in the exception lists give the same results
+	 */
+	private boolean reuse(int i) {
+
+		int length = lengths[i];
+		int decidedLength = decidedWord.length();
+		int suffix = decidedLength - residual;
+		int start = length - suffix;
+
+		if(start < 0) return false;
+		if(length != decidedLength && (start < RSLPStepFilter.SAFE_RESIDUAL || residual < RSLPStepFilter.SAFE_RESIDUAL)) return false;
+
+		//the decided word was edited by the stemming, so its suffix is compared as it was given
+		int offset = offsets[i] + start;
+		for(int k=0; k < suffix; k++) {
+			if(chars[offset + k] != decidedWord.charAt(residual + k)) return false;
+		}
+
+		for(int lookup=0; lookup < traced.getLookups(); lookup++) {
+			if(search(i, start, lookup) != traced.getResult(lookup)) return false;
+		}
+
+		return true;
+
+	}
+
+	/**
+	 * Makes again a search of the decided word, with the characters of the given word before the suffix
+	 */
+	private boolean search(int i, int start, int lookup) {
+
+		int length = start + traced.getSearchedLength(lookup) - residual;
+		if(candidateChars.length < length + 1) {
+			candidateChars = new char[Math.max(length + 1, candidateChars.length * 2)];
+		}
+
+		System.arraycopy(chars, offsets[i], candidateChars, 0, start);
+		traced.getSearched(lookup, residual, candidateChars, start);
+
+		try {
+			return RSLPException.isException(candidate.wrap(candidateChars, 0, length), traced.getList(lookup));
+		} finally {
+			candidate.release();
+		}
+
+	}
+
+	/**
+	 * Replaces the suffix of the word with the stemmed suffix of the decided word
+	 *
+	 * @return Length of the stem of the word
+	 */
+	private int copyStem(int i) {
+		int start = lengths[i] - (lengths[decided] - residual);
+		int suffix = decidedStem - residual;
+		System.arraycopy(chars, offsets[decided] + residual, chars, offsets[i] + start, suffix);
+		return start + suffix;
+	}
+
+	/**
+	 * Sorts the first positions of {@link #order} by the last {@link #SORTED_CHARS} characters of the words, from the end, with a radix sort
+	 * that starts at the deepest character. Each character is one digit of 8 bits: 0 when the word is shorter, and the characters
+	 * above 253 share the last digit, which only puts their words in the same group.
+	 */
+	private void sort(int count) {
+
+		for(int position=0; position < count; position++) {
+			int i = order[position];
+			int last = offsets[i] + lengths[i] - 1;
+			for(int depth=0; depth < SORTED_CHARS; depth++) {
+				digits[i * SORTED_CHARS + depth] = (byte) (depth < lengths[i] ? Math.min(chars[last - depth] + 1, 255) : 0);
+			}
+		}
+
+		for(int depth=SORTED_CHARS - 1; depth >= 0; depth--) {
+
+			for(int digit=0; digit < counts.length; digit++) {
+				counts[digit] = 0;
+			}
+			for(int position=0; position < count; position++) {
+				counts[(digits[order[position] * SORTED_CHARS + depth] & 0xFF) + 1]++;
+			}
+			//all the words share the character, the order does not change
+			if(count == 0 || counts[(digits[order[0] * SORTED_CHARS + depth] & 0xFF) + 1] == count) continue;
+
+			for(int digit=1; digit < counts.length; digit++) {
+				counts[digit] += counts[digit - 1];
+			}
+			for(int position=0; position < count; position++) {
+				int i = order[position];
+				sorted[counts[digits[i * SORTED_CHARS + depth] & 0xFF]++] = i;
+			}
+
+			int[] swap = order;
+			order = sorted;
+			sorted = swap;
+
+		}
+
+	}
+
+	/**
+	 * Copies the words to {@link #chars}, growing the arrays when needed
+	 */
+	private void pack(String[] words) {
+
+		int count = words.length;
+		if(offsets.length < count) {
+			int size = Math.max(count, offsets.length * 2);
+			offsets = new int[size];
+			lengths = new int[size];
+			order = new int[size];
+			sorted = new int[size];
+			digits = new byte[size * SORTED_CHARS];
+		}
+
+		int total = 0;
+		for(int i=0; i < count; i++) {
+			total += words[i].length() + 1;
+		}
+		if(chars.length < total) {
+			chars = new char[Math.max(total, chars.length * 2)];
+		}
+
+		int offset = 0;
+		for(int i=0; i < count; i++) {
+			String word = words[i];
+			word.getChars(0, word.length(), chars, offset);
+			offsets[i] = offset;
+			lengths[i] = word.length();
+			offset += word.length() + 1;
+		}
+
+	}
+
+	/**
+	 * Compares the time of {@link RSLPAutomata#apply(String, boolean)} word by word with the sorted batches, for some large batch
+	 * sizes, on the words of a corpus file (one token per line or many tokens separated by spaces) or, without the file, on words
+	 * generated by {@link RSLPCorpusGenerator}. Every stem is checked against the one of the automata.
+	 *
+	 * @param args Corpus file (optional) and number of words when there is no file (default 2000000)
+	 * @throws IOException If the corpus file cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+
+		String[] words;
+
+		if(args.length > 0 && args[0].matches("[0-9]+") == false) {
+
+			List<String> corpus = new ArrayList<String>();
+			for(String line : Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+				for(String token : line.trim().split("\\s+")) {
+					if(token.isEmpty() == false) corpus.add(token);
+				}
+			}
+			words = corpus.toArray(new String[corpus.size()]);
+
+		} else {
+
+			int size = args.length > 0 ? Integer.parseInt(args[0]) : 2000000;
+			RSLPCorpusGenerator generator = new RSLPCorpusGenerator(1);
+
+			words = new String[size];
+			for(int i=0; i < size; i++) {
+				words[i] = generator.next();
+			}
+
+		}
+
+		int[] batchSizes = {1024, 4096, 16384, 65536};
+		RSLPAutomata automata = new RSLPAutomata();
+		RSLPSuffixSortedBatch sorted = new RSLPSuffixSortedBatch(RSLPAutomata.KEEP_ACCENTS);
+
+		System.out.println(String.format("%10s %16s %16s %10s", "batch", "apply (ns/word)", "sorted (ns/word)", "reused"));
+
+		//the first run warms up
+		for(int run=0; run < 2; run++) {
+			for(int b=0; b < batchSizes.length; b++) {
+
+				int batchSize = batchSizes[b];
+				String[] batch = new String[batchSize];
+				long applyTime = 0;
+				long sortedTime = 0;
+				long reused = 0;
+
+				for(int from=0; from + batchSize <= words.length; from += batchSize) {
+
+					System.arraycopy(words, from, batch, 0, batchSize);
+
+					long start = System.nanoTime();
+					String[] expected = new String[batchSize];
+					for(int i=0; i < batchSize; i++) {
+						expected[i] = automata.apply(batch[i], RSLPAutomata.KEEP_ACCENTS);
+					}
+					applyTime += System.nanoTime() - start;
+
+					start = System.nanoTime();
+					String[] stems = sorted.stem(batch);
+					sortedTime += System.nanoTime() - start;
+					reused += sorted.getReused();
+
+					for(int i=0; i < batchSize; i++) {
+						if(stems[i].equals(expected[i]) == false) {
+							throw new IllegalStateException(batch[i] + ": " + stems[i] + " instead of " + expected[i]);
+						}
+					}
+
+				}
+
+				int stemmed = words.length / batchSize * batchSize;
+				if(run == 1 && stemmed > 0) {
+					System.out.println(String.format("%10d %16.1f %16.1f %9.1f%%", batchSize, (double) applyTime / stemmed, (double) sortedTime / stemmed, 100.0 * reused / stemmed));
+				}
+
+			}
+		}
+
+	}
+
+}
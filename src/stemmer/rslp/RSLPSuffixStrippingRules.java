@@ -36,6 +36,11 @@
 
 package stemmer.rslp;
 
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.zip.CRC32;
+
 /**
  * Stores the rules of the RSLP algorithm.
  * The rules was extracted from the appendix of 'A Stemming Algorithm for the Portuguese Language'
@@ -272,4 +277,66 @@ public final class RSLPSuffixStrippingRules {
 		new RSLPStrippingRule("o", 3, "", null, "menino", "menin")
 	};
 	
+	/**
+	 * Revision of the code of the stemmers. The tables of this class do not describe everything: the automatas of {@link RSLPAutomata}
+	 * are written by hand and {@link RSLPList} has its own conditions, so this value must be incremented whenever the logic of
+	 * either engine changes the stems, to change {@link #VERSION} with it.
+	 */
+	public static final int ENGINE_REVISION = 3;
+	
+	/**
+	 * Fingerprint of the rules of this class, of the exception lists of {@link RSLPException} and of {@link #ENGINE_REVISION}.
+	 * Stems saved in files carry this value, so they are discarded when the rules, the exceptions or the engines change.
+	 */
+	public static final long VERSION = computeVersion();
+	
+	private static long computeVersion() {
+		
+		CRC32 crc = new CRC32();
+		
+		update(crc, Integer.toString(ENGINE_REVISION));
+		
+		RSLPStrippingRule[][] steps = {PLURAL_REDUCTION_RULES, FEMININE_REDUCTION_RULES, DEGREE_REDUCTION_RULES, ADVERB_REDUCTION_RULES, NOUN_REDUCTION_RULES, VERB_REDUCTION_RULES, VOWEL_REDUCTION_RULES};
+		for(int i=0; i < steps.length; i++) {
+			for(int j=0; j < steps[i].length; j++) {
+				update(crc, steps[i][j].getSuffix());
+				update(crc, Integer.toString(steps[i][j].getStemSize()));
+				update(crc, steps[i][j].getReplacement());
+			}
+			update(crc, "|");
+		}
+		
+		//the exception lists are read in name order, since the order of the fields given by reflection is not defined
+		Field[] fields = RSLPException.class.getFields();
+		Arrays.sort(fields, new Comparator<Field>() {
+			public int compare(Field a, Field b) {
+				return a.getName().compareTo(b.getName());
+			}
+		});
+		for(int i=0; i < fields.length; i++) {
+			if(fields[i].getType() == String[].class) {
+				update(crc, fields[i].getName());
+				try {
+					String[] exceptions = (String[]) fields[i].get(null);
+					for(int j=0; j < exceptions.length; j++) {
+						update(crc, exceptions[j]);
+					}
+				} catch(IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		}
+		
+		return crc.getValue();
+		
+	}
+	
+	private static void update(CRC32 crc, String value) {
+		for(int i=0; i < value.length(); i++) {
+			crc.update(value.charAt(i) >>> 8);
+			crc.update(value.charAt(i));
+		}
+		crc.update(0);
+	}
+	
 }
@@ -0,0 +1,327 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPTieredStemCache.java                                                    */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Two level cache of stems in front of {@link RSLPAutomata}, safe to be shared between threads.
+ *
+ * <p>The first level belongs to each thread: a small direct-mapped table indexed by the hash of the word, without any lock.
+ * A new word simply replaces the word that was in its position, so a hit costs an array access and a comparison. The words
+ * that are not in the first level are searched in the second level, a {@link RSLPStemCache} shared by all threads.</p>
+ *
+ * <p>The counters of the first level are updated by each thread without synchronization, so the ratios read while other
+ * threads are working can be slightly outdated. When a thread finishes, the counters of its first level are added to totals and
+ * its table is dropped (when the counters are read or another thread starts to use the cache), so pools that replace their
+ * threads do not keep the words of the old ones.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPTieredStemCache {
+
+	/** Number of words kept by the first level of each thread when not informed */
+	public static final int DEFAULT_LOCAL_CAPACITY = 4096;
+
+	private final RSLPStemCache shared;
+
+	private final int localCapacity;
+
+	/** First level of each alive thread that used the cache, kept to sum the counters */
+	private final List<LocalTable> tables = new ArrayList<LocalTable>();
+
+	/** Searches counted by the first levels of the threads that finished, guarded by {@link #tables} */
+	private long finishedHits;
+
+	private long finishedMisses;
+
+	private final ThreadLocal<LocalTable> local = new ThreadLocal<LocalTable>() {
+		protected LocalTable initialValue() {
+			LocalTable table = new LocalTable(localCapacity, Thread.currentThread());
+			synchronized(tables) {
+				pruneTables();
+				tables.add(table);
+			}
+			return table;
+		}
+	};
+
+	/**
+	 * @param localCapacity Number of words kept by the first level of each thread (rounded up to a power of two)
+	 * @param sharedCapacity Maximum number of words kept by the second level
+	 * @param accents Receives one of the constants of {@link RSLPAutomata} to execute or not the remove accents step
+	 */
+	public RSLPTieredStemCache(int localCapacity, int sharedCapacity, boolean accents) {
+
+		int capacity = 1;
+		while(capacity < localCapacity) capacity <<= 1;
+
+		this.localCapacity = capacity;
+		this.shared = new RSLPStemCache(sharedCapacity, accents);
+
+	}
+
+	/**
+	 * Returns the stem of the given word, processing it only if it is not in any of the levels
+	 *
+	 * @param word Word to be processed
+	 * @return Processed word, the same returned by {@link RSLPAutomata#apply(String, boolean)}
+	 */
+	public String apply(String word) {
+
+		LocalTable table = local.get();
+		String[] entries = table.entries;
+		int index = (word.hashCode() & table.mask) << 1;
+
+		String key = entries[index];
+		if(key == word || word.equals(key)) {
+			table.hits++;
+			return entries[index + 1];
+		}
+
+		table.misses++;
+		String stem = shared.apply(word);
+
+		//the word replaces the one that was in its position
+		entries[index] = word;
+		entries[index + 1] = stem;
+
+		return stem;
+
+	}
+
+	/**
+	 * @return The second level, shared by all threads
+	 */
+	public RSLPStemCache getSharedCache() {
+		return shared;
+	}
+
+	/**
+	 * @return Number of searches that found the word in the first level of some thread
+	 */
+	public long getLocalHits() {
+		long hits;
+		synchronized(tables) {
+			pruneTables();
+			hits = finishedHits;
+			for(LocalTable table : tables) {
+				hits += table.hits;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * @return Number of searches that did not find the word in the first level (and were searched in the second level)
+	 */
+	public long getLocalMisses() {
+		long misses;
+		synchronized(tables) {
+			pruneTables();
+			misses = finishedMisses;
+			for(LocalTable table : tables) {
+				misses += table.misses;
+			}
+		}
+		return misses;
+	}
+
+	/**
+	 * @return Fraction of the searches found in the first level, from 0 to 1
+	 */
+	public double getLocalHitRatio() {
+		return ratio(getLocalHits(), getLocalMisses());
+	}
+
+	/**
+	 * @return Fraction of the searches of the second level (first level misses) found there, from 0 to 1
+	 */
+	public double getSharedHitRatio() {
+		return ratio(shared.getHits(), shared.getMisses());
+	}
+
+	/**
+	 * Adds the counters of the first levels of the finished threads to the totals and drops their tables.
+	 * Must be called with the lock of {@link #tables}.
+	 */
+	private void pruneTables() {
+		Iterator<LocalTable> iterator = tables.iterator();
+		while(iterator.hasNext()) {
+			LocalTable table = iterator.next();
+			Thread owner = table.owner.get();
+			//the end of the thread happens before isAlive returns false, so its last counts are visible
+			if(owner == null || owner.isAlive() == false) {
+				finishedHits += table.hits;
+				finishedMisses += table.misses;
+				iterator.remove();
+			}
+		}
+	}
+
+	private static double ratio(long hits, long misses) {
+		return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+	}
+
+	/**
+	 * First level of a thread: pairs of word and stem stored side by side, so a search reads a single array
+	 */
+	private static final class LocalTable {
+
+		private final String[] entries;
+
+		private final int mask;
+
+		private long hits;
+
+		private long misses;
+
+		/** Thread that uses the table, weakly referenced so a finished thread can be collected before the table is dropped */
+		private final WeakReference<Thread> owner;
+
+		LocalTable(int capacity, Thread owner) {
+			this.entries = new String[capacity * 2];
+			this.mask = capacity - 1;
+			this.owner = new WeakReference<Thread>(owner);
+		}
+
+	}
+
+	/**
+	 * Measures the throughput (words per second) of the stemmer without cache, of the {@link RSLPStemCache} alone and of the
+	 * two level cache, with 1, 2, 4 ... threads up to the number of processors. Each thread processes its own Zipf distributed
+	 * words (see {@link RSLPCorpusGenerator}).
+	 *
+	 * @param args Words processed by each thread (default 2000000)
+	 * @throws Exception If some thread fails
+	 */
+	public static void main(String[] args) throws Exception {
+
+		int words = args.length > 0 ? Integer.parseInt(args[0]) : 2000000;
+		int processors = Runtime.getRuntime().availableProcessors();
+
+		List<String[]> inputs = new ArrayList<String[]>();
+		for(int thread=0; thread < processors; thread++) {
+			RSLPCorpusGenerator generator = new RSLPCorpusGenerator(thread + 1);
+			String[] input = new String[words];
+			for(int i=0; i < words; i++) {
+				input[i] = generator.next();
+			}
+			inputs.add(input);
+		}
+
+		System.out.println("threads   no cache (words/s)   RSLPStemCache (words/s)   two levels (words/s)   level 1 hits   level 2 hits");
+
+		for(int threads=1; ; threads = Math.min(threads * 2, processors)) {
+
+			long none = measure(threads, inputs, null, null);
+
+			RSLPStemCache shared = new RSLPStemCache(100000, RSLPAutomata.KEEP_ACCENTS);
+			long single = measure(threads, inputs, shared, null);
+
+			RSLPTieredStemCache tiered = new RSLPTieredStemCache(DEFAULT_LOCAL_CAPACITY, 100000, RSLPAutomata.KEEP_ACCENTS);
+			long twoLevels = measure(threads, inputs, null, tiered);
+
+			System.out.println(String.format("%7d %20d %25d %22d %13.1f%% %13.1f%%", threads, none, single, twoLevels,
+				tiered.getLocalHitRatio() * 100, tiered.getSharedHitRatio() * 100));
+
+			if(threads == processors) break;
+
+		}
+
+	}
+
+	/**
+	 * Runs the given number of threads (after one run to warm up) and returns the throughput of the measured run
+	 */
+	private static long measure(int threads, final List<String[]> inputs, final RSLPStemCache shared, final RSLPTieredStemCache tiered) throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+
+			long elapsed = 0;
+
+			for(int run=0; run < 2; run++) {
+
+				List<Future<Integer>> tasks = new ArrayList<Future<Integer>>();
+				long start = System.nanoTime();
+
+				for(int thread=0; thread < threads; thread++) {
+					final String[] input = inputs.get(thread);
+					tasks.add(executor.submit(new Callable<Integer>() {
+						public Integer call() {
+							RSLPAutomata automata = new RSLPAutomata();
+							int length = 0;
+							for(int i=0; i < input.length; i++) {
+								String stem;
+								if(tiered != null) stem = tiered.apply(input[i]);
+								else if(shared != null) stem = shared.apply(input[i]);
+								else stem = automata.apply(input[i], RSLPAutomata.KEEP_ACCENTS);
+								length += stem.length();
+							}
+							return length;
+						}
+					}));
+				}
+
+				for(Future<Integer> task : tasks) {
+					task.get();
+				}
+
+				elapsed = System.nanoTime() - start;
+
+			}
+
+			return (long) ((double) threads * inputs.get(0).length * 1000000000L / elapsed);
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+}
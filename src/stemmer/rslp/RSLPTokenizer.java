@@ -0,0 +1,320 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPTokenizer.java                                                          */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Splits a text in words, reading it into a reusable buffer and giving each word as a window of the buffer
+ * (buffer, offset, length), so no object is created for each word:
+ *
+ * <pre>
+ * RSLPTokenizer tokenizer = new RSLPTokenizer(reader);
+ * RSLPAutomata automata = new RSLPAutomata();
+ * while(tokenizer.next()){
+ *     int length = tokenizer.stem(automata);
+ *     //the stem is in tokenizer.getBuffer(), from tokenizer.getOffset(), with the given length
+ * }
+ * </pre>
+ *
+ * <p>A word is a sequence of letters (including the accented letters of Portuguese and combining accents after letters) and of
+ * hyphens between letters, as in compound words. The word is converted to lowercase, with the accents composed, in the buffer
+ * (see {@link RSLPNormalizer}). The window is valid until the next call of {@link #next()},
+ * and there is always one free position after it, as required by {@link RSLPAutomata#stem(char[], int, int)}.</p>
+ *
+ * <p>The buffer only grows for words longer than it. Instances are not thread safe.</p>
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+public class RSLPTokenizer {
+
+	/** Size of the buffer when not informed */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+
+	private final CharBuffer source;
+
+	private char[] buffer;
+
+	/** Position of the buffer where the text not yet read by {@link #next()} starts */
+	private int position;
+
+	/** End of the text in the buffer */
+	private int limit;
+
+	private boolean endOfText;
+
+	private int offset;
+
+	private int length;
+
+	/**
+	 * @param reader Text to be split. It is not closed by the tokenizer.
+	 */
+	public RSLPTokenizer(Reader reader) {
+		this(reader, null, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * @param reader Text to be split. It is not closed by the tokenizer.
+	 * @param bufferSize Initial size of the buffer
+	 */
+	public RSLPTokenizer(Reader reader, int bufferSize) {
+		this(reader, null, bufferSize);
+	}
+
+	/**
+	 * @param source Text to be split, from its position to its limit. Its position is advanced as the text is read, and its
+	 * content is not changed.
+	 */
+	public RSLPTokenizer(CharBuffer source) {
+		this(null, source, DEFAULT_BUFFER_SIZE);
+	}
+
+	private RSLPTokenizer(Reader reader, CharBuffer source, int bufferSize) {
+		this.reader = reader;
+		this.source = source;
+		this.buffer = new char[Math.max(bufferSize, 16)];
+	}
+
+	/**
+	 * Finds the next word
+	 *
+	 * @return TRUE if a word was found, FALSE at the end of the text
+	 * @throws IOException If the reader fails
+	 */
+	public boolean next() throws IOException {
+
+		while(true) {
+
+			while(position < limit && Character.isLetter(buffer[position]) == false) {
+				position++;
+			}
+
+			if(position == limit) {
+				if(fill() == false) {
+					length = 0;
+					return false;
+				}
+				continue;
+			}
+
+			int start = position;
+			int end = start + 1;
+
+			while(true) {
+
+				//a word can continue in the text not yet read
+				if(end + 1 >= limit && endOfText == false) {
+					position = start;
+					fill();
+					end -= start - position;
+					start = position;
+					continue;
+				}
+
+				if(end == limit) break;
+
+				char c = buffer[end];
+				if(Character.isLetter(c) || RSLPNormalizer.isCombiningMark(c)) {
+					end++;
+				}else if(c == '-' && end + 1 < limit && Character.isLetter(buffer[end + 1])) {
+					end += 2;
+				}else {
+					break;
+				}
+
+			}
+
+			offset = start;
+			length = RSLPNormalizer.normalize(buffer, start, end - start, RSLPNormalizer.COMPOSE);
+
+			//the character after the word is not a letter, so it can be skipped (and used by the stemmer)
+			position = end < limit ? end + 1 : end;
+
+			return true;
+
+		}
+
+	}
+
+	/**
+	 * Moves the text not yet read to the beginning of the buffer and reads more text after it, keeping the last position of the
+	 * buffer free
+	 *
+	 * @return FALSE if the end of the text was reached and no text was read
+	 */
+	private boolean fill() throws IOException {
+
+		if(endOfText) return false;
+
+		if(position > 0) {
+			System.arraycopy(buffer, position, buffer, 0, limit - position);
+			limit -= position;
+			position = 0;
+		}
+
+		if(limit + 1 >= buffer.length) {
+			char[] bigger = new char[buffer.length * 2];
+			System.arraycopy(buffer, 0, bigger, 0, limit);
+			buffer = bigger;
+		}
+
+		int read;
+		if(reader != null) {
+			read = reader.read(buffer, limit, buffer.length - 1 - limit);
+		}else {
+			read = Math.min(source.remaining(), buffer.length - 1 - limit);
+			source.get(buffer, limit, read);
+			if(read == 0) read = -1;
+		}
+
+		if(read < 0) {
+			endOfText = true;
+			return false;
+		}
+
+		limit += read;
+		return true;
+
+	}
+
+	/**
+	 * Replaces the current word by its stem, in the buffer
+	 *
+	 * @param automata Stemmer used only by the current thread
+	 * @return Length of the stem, which starts at {@link #getOffset()}
+	 */
+	public int stem(RSLPAutomata automata) {
+		length = automata.stem(buffer, offset, length);
+		return length;
+	}
+
+	/**
+	 * @return Buffer with the current word. It can be replaced by a bigger one in the next call of {@link #next()}.
+	 */
+	public char[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * @return Position of the buffer where the current word starts
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * @return Length of the current word (or of its stem after {@link #stem(RSLPAutomata)})
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * @return The current word, creating a String
+	 */
+	public String getWord() {
+		return new String(buffer, offset, length);
+	}
+
+	/**
+	 * Compares the usual path (split the text, convert each word to lowercase and process it with
+	 * {@link RSLPAutomata#apply(String, boolean)}) with the tokenizer and the in place stemming, measuring the time and the memory
+	 * allocated for each word
+	 *
+	 * @param args Text file (UTF-8)
+	 * @throws IOException If the file can not be read
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 1) {
+			System.err.println("Usage: RSLPTokenizer <text file>");
+			return;
+		}
+
+		String text = new String(Files.readAllBytes(Paths.get(args[0])), StandardCharsets.UTF_8);
+		RSLPAutomata automata = new RSLPAutomata();
+
+		for(int run=0; run < 3; run++) {
+
+			long bytes = RSLPAllocations.getThreadAllocatedBytes();
+			long start = System.nanoTime();
+			long words = 0;
+			long checksum = 0;
+
+			for(String piece : text.split("[^\\p{L}-]+")) {
+				if(piece.isEmpty()) continue;
+				checksum += automata.apply(piece.toLowerCase(Locale.ROOT), RSLPAutomata.KEEP_ACCENTS).length();
+				words++;
+			}
+
+			report("split + apply", words, checksum, System.nanoTime() - start, RSLPAllocations.getThreadAllocatedBytes() - bytes);
+
+			bytes = RSLPAllocations.getThreadAllocatedBytes();
+			start = System.nanoTime();
+			words = 0;
+			checksum = 0;
+
+			RSLPTokenizer tokenizer = new RSLPTokenizer(CharBuffer.wrap(text));
+			while(tokenizer.next()) {
+				checksum += tokenizer.stem(automata);
+				words++;
+			}
+
+			report("tokenizer + stem", words, checksum, System.nanoTime() - start, RSLPAllocations.getThreadAllocatedBytes() - bytes);
+
+		}
+
+	}
+
+	private static void report(String name, long words, long checksum, long elapsed, long bytes) {
+		//without the allocations of the thread both readings are -1
+		String allocations = RSLPAllocations.isSupported() ? String.format("%8.1f bytes/word", (double) bytes / Math.max(words, 1)) : "allocations not informed";
+		System.out.println(String.format("%-18s %9d words (%d characters) %7d ms %s", name, words, checksum, elapsed / 1000000, allocations));
+	}
+
+}
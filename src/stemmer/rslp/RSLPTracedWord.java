@@ -0,0 +1,195 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPTracedWord.java                                                         */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+/**
+ * Word given to the steps of the automata by {@link RSLPSuffixSortedBatch}. It records what decided the stem of the word: the
+ * first position read by the steps (the characters after it and the length of the word are all the automata look at) and each
+ * search in the exception lists, with the word searched and the result. The searches read the whole word, so they do not move
+ * the first position read.
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+final class RSLPTracedWord implements RSLPExceptionLookup {
+
+	private CharSequence word;
+
+	/** First position read by the steps */
+	private int lowest;
+
+	/** Number of searches in the exception lists */
+	private int lookups;
+
+	private String[][] lists = new String[4][];
+
+	private boolean[] results = new boolean[4];
+
+	/** Words searched in the lists, as they were when the searches were made, one after the other */
+	private char[] searched = new char[64];
+
+	/** Start of each searched word in {@link #searched}, and its end in the next position */
+	private int[] starts = new int[5];
+
+	/**
+	 * Starts the trace of a word
+	 *
+	 * @param word Word read by the steps. It can be edited by them between the reads.
+	 * @return This traced word
+	 */
+	RSLPTracedWord watch(CharSequence word) {
+		this.word = word;
+		this.lowest = word.length();
+		this.lookups = 0;
+		this.starts[0] = 0;
+		return this;
+	}
+
+	/**
+	 * Searches the word in the exception list, recording the search
+	 *
+	 * @param exceptions List where is to search for the word
+	 * @return TRUE if the word is found
+	 */
+	public boolean isException(String[] exceptions) {
+
+		boolean found = RSLPException.isException(word, exceptions);
+
+		if(lookups == lists.length) {
+			int size = lookups * 2;
+			String[][] newLists = new String[size][];
+			boolean[] newResults = new boolean[size];
+			int[] newStarts = new int[size + 1];
+			System.arraycopy(lists, 0, newLists, 0, lookups);
+			System.arraycopy(results, 0, newResults, 0, lookups);
+			System.arraycopy(starts, 0, newStarts, 0, lookups + 1);
+			lists = newLists;
+			results = newResults;
+			starts = newStarts;
+		}
+
+		int start = starts[lookups];
+		int length = word.length();
+		if(searched.length < start + length) {
+			char[] newSearched = new char[Math.max(start + length, searched.length * 2)];
+			System.arraycopy(searched, 0, newSearched, 0, start);
+			searched = newSearched;
+		}
+		for(int i=0; i < length; i++) {
+			searched[start + i] = word.charAt(i);
+		}
+
+		lists[lookups] = exceptions;
+		results[lookups] = found;
+		lookups++;
+		starts[lookups] = start + length;
+
+		return found;
+
+	}
+
+	/**
+	 * @return First position of the word read by the steps, or the length of the word if none was read
+	 */
+	int getLowest() {
+		return lowest;
+	}
+
+	/**
+	 * @return Number of searches in the exception lists
+	 */
+	int getLookups() {
+		return lookups;
+	}
+
+	/**
+	 * @param lookup Number of the search, from 0
+	 * @return The exception list of the search
+	 */
+	String[] getList(int lookup) {
+		return lists[lookup];
+	}
+
+	/**
+	 * @param lookup Number of the search, from 0
+	 * @return Length of the word searched, as it was when the search was made
+	 */
+	int getSearchedLength(int lookup) {
+		return starts[lookup + 1] - starts[lookup];
+	}
+
+	/**
+	 * Copies the characters of the word searched, as it was when the search was made
+	 *
+	 * @param lookup Number of the search, from 0
+	 * @param from First position of the word to be copied
+	 * @param target Array that receives the characters
+	 * @param offset Position of the array that receives the first character
+	 */
+	void getSearched(int lookup, int from, char[] target, int offset) {
+		System.arraycopy(searched, starts[lookup] + from, target, offset, starts[lookup + 1] - starts[lookup] - from);
+	}
+
+	/**
+	 * @param lookup Number of the search, from 0
+	 * @return TRUE if the word was found in the list
+	 */
+	boolean getResult(int lookup) {
+		return results[lookup];
+	}
+
+	public int length() {
+		return word.length();
+	}
+
+	public char charAt(int index) {
+		if(index < lowest) lowest = index;
+		return word.charAt(index);
+	}
+
+	public CharSequence subSequence(int start, int end) {
+		if(start < lowest) lowest = start;
+		return word.subSequence(start, end);
+	}
+
+	public String toString() {
+		lowest = 0;
+		return word.toString();
+	}
+
+}
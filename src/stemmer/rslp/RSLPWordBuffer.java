@@ -0,0 +1,183 @@
+/* --------------------------------------------------------------------------------- */
+/*                              Author: Wadson Ferreira                              */
+/*                            wadson.ferreira@outlook.com                            */
+/*                                                                                   */
+/*               **     This banner notice must not be removed      **               */
+/* --------------------------------------------------------------------------------- */
+/*  Copyright(c) 2015, Wadson Ferreira                                               */
+/*  All rights reserved.                                                             */
+/*                                                                                   */
+/*  Redistribution and use in source and binary forms, with or without               */
+/*  modification, are permitted provided that the following conditions are met :     */
+/*                                                                                   */
+/*  1. Redistributions of source code must retain the above copyright notice, this   */
+/*     list of conditions and the following disclaimer.                              */
+/*  2. Redistributions in binary form must reproduce the above copyright notice,     */
+/*     this list of conditions and the following disclaimer in the documentation     */
+/*     and / or other materials provided with the distribution.                      */
+/*                                                                                   */
+/*  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND  */
+/*  ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED    */
+/*  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE           */
+/*  DISCLAIMED.IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR   */
+/*  ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES   */
+/*  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;     */
+/*  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND      */
+/*  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT       */
+/*  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS    */
+/*  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.                     */
+/*                                                                                   */
+/*  The views and conclusions contained in the software and documentation are those  */
+/*  of the authors and should not be interpreted as representing official policies,  */
+/*  either expressed or implied, of the FreeBSD Project.                             */
+/* --------------------------------------------------------------------------------- */
+/* File: RSLPWordBuffer.java                                                         */
+/* --------------------------------------------------------------------------------- */
+
+package stemmer.rslp;
+
+/**
+ * Reusable buffer that holds the word while the reduction steps are applied to it in place
+ *
+ * @version 0.0.1
+ * @author Wadson Ferreira
+ *
+ */
+final class RSLPWordBuffer implements CharSequence {
+
+	/** Array owned by the buffer, used when the word is copied */
+	private char[] own = new char[32];
+
+	/** Characters of the word. It has one extra position because a step can attach one character more than it removes */
+	private char[] chars = own;
+
+	/** Position of the array where the word starts */
+	private int offset;
+
+	/** Length of the word */
+	private int length;
+
+	/**
+	 * Copies the given word to the buffer
+	 *
+	 * @param in Word to be processed
+	 * @return This buffer
+	 */
+	RSLPWordBuffer set(CharSequence in) {
+
+		length = in.length();
+		if(length + 1 > own.length) {
+			own = new char[Math.max(length + 1, own.length * 2)];
+		}
+		for(int i=0; i < length; i++) {
+			own[i] = in.charAt(i);
+		}
+
+		chars = own;
+		offset = 0;
+
+		return this;
+
+	}
+
+	/**
+	 * Copies the given word to the buffer converting it to lowercase and composing the accents if asked (see {@link RSLPNormalizer}),
+	 * in a single pass
+	 *
+	 * @param in Word to be processed
+	 * @param compose One of the constants of {@link RSLPNormalizer}
+	 * @return TRUE if the word in the buffer is different of the given word
+	 */
+	boolean setNormalized(CharSequence in, boolean compose) {
+
+		if(in.length() + 1 > own.length) {
+			own = new char[Math.max(in.length() + 1, own.length * 2)];
+		}
+
+		boolean changed = false;
+		int out = 0;
+
+		for(int i=0; i < in.length(); i++) {
+
+			char c = in.charAt(i);
+
+			if(compose && out > 0 && RSLPNormalizer.isCombiningMark(c)) {
+				char composed = RSLPNormalizer.compose(own[out - 1], c);
+				if(composed != 0) {
+					own[out - 1] = composed;
+					changed = true;
+					continue;
+				}
+			}
+
+			char lower = RSLPNormalizer.toLowerCase(c);
+			changed |= lower != c;
+			own[out++] = lower;
+
+		}
+
+		chars = own;
+		offset = 0;
+		length = out;
+
+		return changed;
+
+	}
+
+	/**
+	 * Uses a part of the given array as the word, without copying it: the steps edit the array
+	 *
+	 * @param buffer Array with the word. It must have one position after the word.
+	 * @param offset Position of the array where the word starts
+	 * @param length Length of the word
+	 * @return This buffer
+	 */
+	RSLPWordBuffer wrap(char[] buffer, int offset, int length) {
+
+		if(offset < 0 || length < 0 || offset + length + 1 > buffer.length) {
+			throw new IllegalArgumentException("The buffer must have one position after the word: offset " + offset + ", length " + length + ", buffer " + buffer.length);
+		}
+
+		this.chars = buffer;
+		this.offset = offset;
+		this.length = length;
+
+		return this;
+
+	}
+
+	/**
+	 * Stops using the array given to {@link #wrap(char[], int, int)}
+	 */
+	void release() {
+		chars = own;
+		offset = 0;
+		length = 0;
+	}
+
+	/**
+	 * Applies the edit described by the outcome of a step to the word
+	 *
+	 * @param outcome Value returned by one of the outcome methods of {@link RSLPAutomata}
+	 */
+	void apply(long outcome) {
+		length = RSLPOutcome.apply(chars, offset, length, outcome);
+	}
+
+	public int length() {
+		return length;
+	}
+
+	public char charAt(int index) {
+		return chars[offset + index];
+	}
+
+	public CharSequence subSequence(int start, int end) {
+		return new String(chars, offset + start, end - start);
+	}
+
+	public String toString() {
+		return new String(chars, offset, length);
+	}
+
+}
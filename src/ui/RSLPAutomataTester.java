@@ -26,18 +26,34 @@ public class RSLPAutomataTester {
 	
 	private RSLPAutomata rslp = new RSLPAutomata();
 	
-	private String input;
+	private String[] words;
 	
 	private long executionTime;
 	
+	private long formattingTime;
+	
 	public RSLPAutomataTester(String input) {
-		this.input = input;
+		this(input.split("\n"));
+	}
+	
+	public RSLPAutomataTester(String[] words) {
+		this.words = words;
 	}
 	
+	/**
+	 * @return Time spent by the last execution processing the words, without the time spent building the result String
+	 */
 	public long getExecutionTime() {
 		return this.executionTime;
 	}
 	
+	/**
+	 * @return Time spent by the last execution of {@link #runRSLP(int)} building the result String
+	 */
+	public long getFormattingTime() {
+		return this.formattingTime;
+	}
+	
 	/**
 	 * Runs the informed RSLP module. Use the class constants to select a module.
 	 * 
@@ -46,227 +62,219 @@ public class RSLPAutomataTester {
 	 */
 	public String runRSLP(int module) {
 		
-		String result = "";
+		String[] stems = stem(module);
 		
-		long startTime = System.nanoTime(); 
+		long startTime = System.nanoTime();
+		
+		String result = format(stems);
+		
+		this.formattingTime = System.nanoTime() - startTime;
+		
+		return result;
+		
+	}
+	
+	/**
+	 * Runs the informed RSLP module, keeping the results in an array. Use the class constants to select a module.
+	 * 
+	 * @param module Constant informing the module to be executed.
+	 * @return The result for each word, in the same order of the given words.
+	 */
+	public String[] stem(int module) {
+		
+		String[] stems = new String[words.length];
+		
+		long startTime = System.nanoTime();
 		
 		switch(module) {
 		case COMPLETE_AUTOMATA_WITH_ACCENTS:
-			result = runCompleteAlgorithmWithAccentsRemove();
+			runCompleteAlgorithmWithAccentsRemove(stems);
 		break;
 		case COMPLETE_AUTOMATA_WITHOUT_ACCENTS:
-			result = runCompleteAlgorithmWithoutAccentsRemove();
+			runCompleteAlgorithmWithoutAccentsRemove(stems);
 		break;
 		case ONLY_PLURAL_REDUCTION:
-			result = runOnlyPluralReduction();
+			runOnlyPluralReduction(stems);
 		break;
 		case ONLY_FEMININE_REDUCTION:
-			result = runOnlyFeminineReduction();
+			runOnlyFeminineReduction(stems);
 		break;
 		case ONLY_DEGREE_REDUCTION:
-			result = runOnlyDegreeReduction();
+			runOnlyDegreeReduction(stems);
 		break;
 		case ONLY_ADVERB_REDUCTION:
-			result = runOnlyAdverbReduction();
+			runOnlyAdverbReduction(stems);
 		break;
 		case ONLY_NOUN_REDUCTION:
-			result = runOnlyNounReduction();
+			runOnlyNounReduction(stems);
 		break;
 		case ONLY_VERB_REDUCTION:
-			result = runOnlyVerbReduction();
+			runOnlyVerbReduction(stems);
 		break;
 		case ONLY_REMOVE_VOWEL:
-			result = runOnlyRemoveVowel();
+			runOnlyRemoveVowel(stems);
 		break;
 		case ONLY_REMOVE_ACCENTS:
-			result = runOnlyRemoveAccents();
+			runOnlyRemoveAccents(stems);
 		break;
 		}
 		
 		this.executionTime = System.nanoTime() - startTime;
 		
-		return result;
+		return stems;
+		
+	}
+	
+	/**
+	 * Builds the result String, one word per line
+	 * 
+	 * @param stems Result for each word
+	 * @return A String with the result. Each line contains a word.
+	 */
+	private String format(String[] stems) {
+		
+		int length = 0;
+		for(int i=0; i < stems.length; i++) {
+			length += stems[i].length() + 1;
+		}
+		
+		StringBuilder result = new StringBuilder(length);
+		for(int i=0; i < stems.length; i++) {
+			result.append(stems[i]).append('\n');
+		}
+		
+		return result.toString();
 		
 	}
 	
 	/**
 	 * Executes the complete algorithm with accents remove for the string entered in the constructor
 	 * 
-	 * @return The result of the application of complete algorithm with accents remove for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runCompleteAlgorithmWithAccentsRemove() {
+	private void runCompleteAlgorithmWithAccentsRemove(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-
 		for(int i=0; i < words.length; i++) {
-			result += rslp.apply(words[i], RSLPAutomata.KEEP_ACCENTS)+"\n";
+			stems[i] = rslp.apply(words[i], RSLPAutomata.KEEP_ACCENTS);
 		}
 		
-		return result;
-		
 	}
 
 	/**
 	 * Executes the complete algorithm without accents remove for the string entered in the constructor
 	 * 
-	 * @return The result of the application of complete algorithm without accents remove for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runCompleteAlgorithmWithoutAccentsRemove() {
+	private void runCompleteAlgorithmWithoutAccentsRemove(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-	
 		for(int i=0; i < words.length; i++) {
-			result += rslp.apply(words[i], RSLPAutomata.REMOVE_ACCENTS)+"\n";
+			stems[i] = rslp.apply(words[i], RSLPAutomata.REMOVE_ACCENTS);
 		}
 		
-		return result;
-		
 	}
 
 	/**
 	 * Executes the plural reduction module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of plural reduction for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyPluralReduction() {
+	private void runOnlyPluralReduction(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-	
 		for(int i=0; i < words.length; i++) {
-			result += rslp.pluralReduction(words[i])+"\n";
+			stems[i] = rslp.pluralReduction(words[i]);
 		}
 		
-		return result;
-		
 	}
 
 	/**
 	 * Executes the feminine reduction module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of feminine reduction for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyFeminineReduction() {
+	private void runOnlyFeminineReduction(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-	
 		for(int i=0; i < words.length; i++) {
-			result += rslp.feminineReduction(words[i])+"\n";
+			stems[i] = rslp.feminineReduction(words[i]);
 		}
 		
-		return result;
-		
 	}
 	
 	/**
 	 * Executes the degree reduction module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of degree reduction for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyDegreeReduction() {
+	private void runOnlyDegreeReduction(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-	
 		for(int i=0; i < words.length; i++) {
-			result += rslp.degreeReduction(words[i])+"\n";
+			stems[i] = rslp.degreeReduction(words[i]);
 		}
 		
-		return result;
-		
 	}
 
 	/**
 	 * Executes the adverb reduction module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of adverb reduction for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyAdverbReduction() {
+	private void runOnlyAdverbReduction(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-	
 		for(int i=0; i < words.length; i++) {
-			result += rslp.adverbReduction(words[i])+"\n";
+			stems[i] = rslp.adverbReduction(words[i]);
 		}
 		
-		return result;
-		
 	}
 	
 	/**
 	 * Executes the noun reduction module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of noun reduction for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyNounReduction() {
+	private void runOnlyNounReduction(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-
 		for(int i=0; i < words.length; i++) {
-			result += rslp.nounReduction(words[i])+"\n";
+			stems[i] = rslp.nounReduction(words[i]);
 		}
 		
-		return result;
-		
 	}
 	
 	/**
 	 * Executes the verb reduction module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of verb reduction for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyVerbReduction() {
+	private void runOnlyVerbReduction(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-
 		for(int i=0; i < words.length; i++) {
-			result += rslp.verbReduction(words[i])+"\n";
+			stems[i] = rslp.verbReduction(words[i]);
 		}
 		
-		return result;
-		
 	}
 	
 	/**
 	 * Executes the remove vowel module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of vowel removal for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyRemoveVowel() {
+	private void runOnlyRemoveVowel(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-
 		for(int i=0; i < words.length; i++) {
-			result += rslp.removeVowel(words[i])+"\n";
+			stems[i] = rslp.removeVowel(words[i]);
 		}
 		
-		return result;
-		
 	}
 	
 	/**
 	 * Executes the remove accents module for the string entered in the constructor
 	 * 
-	 * @return The result of the application of accents removal for given words. Each line contains a word.
+	 * @param stems Array where the result for each given word is stored
 	 */
-	private String runOnlyRemoveAccents() {
+	private void runOnlyRemoveAccents(String[] stems) {
 		
-		String[] words = this.input.split("\n");
-		String result = "";
-	
 		for(int i=0; i < words.length; i++) {
-			result += rslp.removeAccents(words[i])+"\n";
+			stems[i] = rslp.removeAccents(words[i]);
 		}
 		
-		return result;
-		
 	}
 
 }
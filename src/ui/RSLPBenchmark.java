@@ -0,0 +1,229 @@
+package ui;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import stemmer.rslp.RSLPAllocations;
+
+/**
+ * Measures the modules of both algorithms over the same words. Each module runs some warm-up iterations (not measured, so the
+ * JIT compiler can optimize the code) followed by the measured iterations, and the times of the measured iterations are summarized.
+ */
+public class RSLPBenchmark {
+
+	public static final int AUTOMATA = 0;
+
+	public static final int LIST = 1;
+
+	/** Keys (see {@link ui.i18n.Language}) of the names of the modules, indexed by the module constants of the testers */
+	public static final String[] MODULE_KEYS = {
+		"complete_algorithm_with_accents",
+		"complete_algorithm_without_accents",
+		"only_plural_reduction",
+		"only_feminine_reduction",
+		"only_degree_reduction",
+		"only_adverb_reduction",
+		"only_noun_reduction",
+		"only_verb_reduction",
+		"only_vowel_reduction",
+	};
+
+	private String[] words;
+
+	private int warmupIterations;
+
+	private int measuredIterations;
+
+	public RSLPBenchmark(String[] words, int warmupIterations, int measuredIterations) {
+		this.words = words;
+		this.warmupIterations = warmupIterations;
+		this.measuredIterations = Math.max(measuredIterations, 1);
+	}
+
+	/**
+	 * Runs the warm-up and the measured iterations of a module
+	 *
+	 * @param algorithm {@link #AUTOMATA} or {@link #LIST}
+	 * @param module One of the module constants of the testers
+	 * @return Summary of the measured iterations
+	 * @throws InterruptedException If the thread is interrupted between two iterations
+	 */
+	public Result run(int algorithm, int module) throws InterruptedException {
+
+		RSLPAutomataTester automataTester = new RSLPAutomataTester(words);
+		RSLPListTester listTester = new RSLPListTester(words);
+
+		for(int i=0; i < warmupIterations; i++) {
+			checkInterrupted();
+			if(algorithm == AUTOMATA) automataTester.stem(module);
+			else listTester.stem(module);
+		}
+
+		long[] times = new long[measuredIterations];
+		long allocated = 0;
+		boolean allocationSupported = RSLPAllocations.isSupported();
+
+		for(int i=0; i < measuredIterations; i++) {
+
+			checkInterrupted();
+			long allocatedBefore = RSLPAllocations.getThreadAllocatedBytes();
+
+			if(algorithm == AUTOMATA) {
+				automataTester.stem(module);
+				times[i] = automataTester.getExecutionTime();
+			} else {
+				listTester.stem(module);
+				times[i] = listTester.getExecutionTime();
+			}
+
+			allocated += RSLPAllocations.getThreadAllocatedBytes() - allocatedBefore;
+
+		}
+
+		double bytesPerWord = allocationSupported == false || words.length == 0 ? -1 : (double) allocated / measuredIterations / words.length;
+
+		return new Result(algorithm, module, words.length, times, bytesPerWord);
+
+	}
+
+	private static void checkInterrupted() throws InterruptedException {
+		if(Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+
+	/**
+	 * Builds a CSV table (one line for each result, with a header line)
+	 *
+	 * @param results Results to be exported
+	 * @return The content of the CSV file
+	 */
+	public static String toCSV(List<Result> results) {
+
+		StringBuilder csv = new StringBuilder();
+		csv.append("algorithm,module,words,iterations,mean_ns,median_ns,p90_ns,p99_ns,stddev_ns,ns_per_word,bytes_per_word\n");
+
+		for(Result result : results) {
+			csv.append(result.getAlgorithm() == AUTOMATA ? "automata" : "list").append(',')
+				.append(MODULE_KEYS[result.getModule()]).append(',')
+				.append(result.getWords()).append(',')
+				.append(result.getIterations()).append(',')
+				.append(String.format(Locale.ROOT, "%.1f", result.getMean())).append(',')
+				.append(result.getMedian()).append(',')
+				.append(result.getPercentile90()).append(',')
+				.append(result.getPercentile99()).append(',')
+				.append(String.format(Locale.ROOT, "%.1f", result.getStandardDeviation())).append(',')
+				.append(String.format(Locale.ROOT, "%.2f", result.getNanosPerWord())).append(',')
+				.append(result.getBytesPerWord() < 0 ? "" : String.format(Locale.ROOT, "%.2f", result.getBytesPerWord())).append('\n');
+		}
+
+		return csv.toString();
+
+	}
+
+	/**
+	 * Summary of the measured iterations of a module. The times are in nanoseconds.
+	 */
+	public static final class Result {
+
+		private final int algorithm;
+
+		private final int module;
+
+		private final int words;
+
+		private final long[] times;
+
+		private final double mean;
+
+		private final double standardDeviation;
+
+		private final double bytesPerWord;
+
+		private Result(int algorithm, int module, int words, long[] times, double bytesPerWord) {
+
+			this.algorithm = algorithm;
+			this.module = module;
+			this.words = words;
+			this.times = times.clone();
+			this.bytesPerWord = bytesPerWord;
+
+			Arrays.sort(this.times);
+
+			double sum = 0;
+			for(int i=0; i < times.length; i++) {
+				sum += times[i];
+			}
+			this.mean = sum / times.length;
+
+			double squares = 0;
+			for(int i=0; i < times.length; i++) {
+				squares += (times[i] - mean) * (times[i] - mean);
+			}
+			this.standardDeviation = times.length > 1 ? Math.sqrt(squares / (times.length - 1)) : 0;
+
+		}
+
+		public int getAlgorithm() {
+			return algorithm;
+		}
+
+		public int getModule() {
+			return module;
+		}
+
+		public int getWords() {
+			return words;
+		}
+
+		public int getIterations() {
+			return times.length;
+		}
+
+		public double getMean() {
+			return mean;
+		}
+
+		public long getMedian() {
+			return getPercentile(50);
+		}
+
+		public long getPercentile90() {
+			return getPercentile(90);
+		}
+
+		public long getPercentile99() {
+			return getPercentile(99);
+		}
+
+		/**
+		 * @param percentile Value between 0 and 100
+		 * @return The time of the iteration at the given percentile (nearest rank)
+		 */
+		public long getPercentile(double percentile) {
+			int rank = (int) Math.ceil(percentile / 100.0 * times.length);
+			return times[Math.min(Math.max(rank, 1), times.length) - 1];
+		}
+
+		/**
+		 * @return Sample standard deviation of the times
+		 */
+		public double getStandardDeviation() {
+			return standardDeviation;
+		}
+
+		public double getNanosPerWord() {
+			return words == 0 ? 0 : mean / words;
+		}
+
+		/**
+		 * @return Average bytes allocated for each word (including the array of results), or -1 if the JVM does not inform it
+		 */
+		public double getBytesPerWord() {
+			return bytesPerWord;
+		}
+
+	}
+
+}
@@ -0,0 +1,264 @@
+package ui;
+
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JProgressBar;
+import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
+import javax.swing.JTable;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingWorker;
+import javax.swing.table.DefaultTableModel;
+
+import ui.i18n.Language;
+
+/**
+ * Runs {@link RSLPBenchmark} for every module of both algorithms over the words of the console, out of the event dispatch thread,
+ * showing each result as soon as it is measured.
+ */
+public class RSLPBenchmarkDialog extends JDialog {
+
+	private static final long serialVersionUID = 1L;
+
+	private String[] words;
+
+	private JSpinner warmupIterations;
+
+	private JSpinner measuredIterations;
+
+	private JButton runButton;
+
+	private JButton exportButton;
+
+	private JProgressBar progressBar;
+
+	private DefaultTableModel tableModel;
+
+	private List<RSLPBenchmark.Result> results = new ArrayList<RSLPBenchmark.Result>();
+
+	//the benchmark in progress, null when it is not running
+	private RSLPBenchmarkWorker worker;
+
+	public RSLPBenchmarkDialog(Window owner, String input) {
+
+		super(owner, Language.getString("benchmark_title"));
+
+		//empty lines are not words
+		List<String> words = new ArrayList<String>();
+		for(String word : input.split("\n")) {
+			if(word.isEmpty() == false) words.add(word);
+		}
+		this.words = words.toArray(new String[words.size()]);
+
+		setSize(760, 420);
+		setResizable(false);
+		setLocationRelativeTo(owner);
+		setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+		setLayout(null);
+
+		JLabel warmupLabel = new JLabel(Language.getString("benchmark_warmup"));
+		warmupLabel.setBounds(10, 10, 200, 25);
+		this.warmupIterations = new JSpinner(new SpinnerNumberModel(5, 0, 1000, 1));
+		this.warmupIterations.setBounds(210, 10, 70, 25);
+
+		JLabel measuredLabel = new JLabel(Language.getString("benchmark_iterations"));
+		measuredLabel.setBounds(10, 40, 200, 25);
+		this.measuredIterations = new JSpinner(new SpinnerNumberModel(10, 1, 1000, 1));
+		this.measuredIterations.setBounds(210, 40, 70, 25);
+
+		JLabel wordsLabel = new JLabel(this.words.length+" "+Language.getString("benchmark_words"));
+		wordsLabel.setBounds(300, 10, 200, 25);
+
+		this.runButton = new JButton(Language.getString("benchmark_run_button"));
+		this.runButton.setBounds(450, 25, 145, 30);
+		this.runButton.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent actionEvent) {
+
+				//while the benchmark runs, the button cancels it
+				if(worker != null) {
+					worker.cancel(true);
+					return;
+				}
+
+				results.clear();
+				tableModel.setRowCount(0);
+				progressBar.setValue(0);
+				exportButton.setEnabled(false);
+				runButton.setText(Language.getString("action_panel_cancel_button"));
+
+				worker = new RSLPBenchmarkWorker(new RSLPBenchmark(RSLPBenchmarkDialog.this.words,
+					(Integer) warmupIterations.getValue(), (Integer) measuredIterations.getValue()));
+				worker.addPropertyChangeListener(new PropertyChangeListener() {
+					public void propertyChange(PropertyChangeEvent event) {
+						if("progress".equals(event.getPropertyName())) {
+							progressBar.setValue((Integer) event.getNewValue());
+						}
+					}
+				});
+				worker.execute();
+
+			}
+		});
+
+		this.exportButton = new JButton(Language.getString("benchmark_export_button"));
+		this.exportButton.setBounds(605, 25, 145, 30);
+		this.exportButton.setEnabled(false);
+		this.exportButton.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent actionEvent) {
+				exportCSV();
+			}
+		});
+
+		this.tableModel = new DefaultTableModel(new String[] {
+			Language.getString("benchmark_algorithm"),
+			Language.getString("benchmark_module"),
+			Language.getString("benchmark_mean"),
+			Language.getString("benchmark_median"),
+			Language.getString("benchmark_p90"),
+			Language.getString("benchmark_p99"),
+			Language.getString("benchmark_stddev"),
+			Language.getString("benchmark_ns_per_word"),
+			Language.getString("benchmark_bytes_per_word"),
+		}, 0) {
+			public boolean isCellEditable(int row, int column) {
+				return false;
+			}
+		};
+
+		JTable table = new JTable(tableModel);
+		table.getColumnModel().getColumn(1).setPreferredWidth(220);
+		JScrollPane scroll = new JScrollPane(table);
+		scroll.setBounds(10, 75, 740, 270);
+
+		this.progressBar = new JProgressBar(0, 100);
+		this.progressBar.setBounds(10, 355, 740, 20);
+		this.progressBar.setStringPainted(true);
+
+		add(warmupLabel);
+		add(this.warmupIterations);
+		add(measuredLabel);
+		add(this.measuredIterations);
+		add(wordsLabel);
+		add(this.runButton);
+		add(this.exportButton);
+		add(scroll);
+		add(this.progressBar);
+
+	}
+
+	public void dispose() {
+		if(worker != null) {
+			worker.cancel(true);
+		}
+		super.dispose();
+	}
+
+	private void exportCSV() {
+
+		JFileChooser chooser = new JFileChooser();
+		chooser.setSelectedFile(new File("rslp-benchmark.csv"));
+		if(chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+		try {
+			Writer writer = new OutputStreamWriter(new FileOutputStream(chooser.getSelectedFile()), StandardCharsets.UTF_8);
+			try {
+				writer.write(RSLPBenchmark.toCSV(results));
+			} finally {
+				writer.close();
+			}
+		} catch(IOException e) {
+			JOptionPane.showMessageDialog(this, Language.getString("benchmark_export_error")+"\n"+e.getMessage(),
+				Language.getString("benchmark_title"), JOptionPane.ERROR_MESSAGE);
+		}
+
+	}
+
+	private static String format(double value) {
+		return value < 0 ? "-" : String.format("%.2f", value);
+	}
+
+	/**
+	 * Measures every module of both algorithms, publishing each result when it is ready
+	 */
+	private final class RSLPBenchmarkWorker extends SwingWorker<Void, RSLPBenchmark.Result> {
+
+		private final RSLPBenchmark benchmark;
+
+		private RSLPBenchmarkWorker(RSLPBenchmark benchmark) {
+			this.benchmark = benchmark;
+		}
+
+		protected Void doInBackground() throws Exception {
+
+			int modules = RSLPBenchmark.MODULE_KEYS.length;
+
+			for(int module=0; module < modules; module++) {
+				for(int algorithm=RSLPBenchmark.AUTOMATA; algorithm <= RSLPBenchmark.LIST; algorithm++) {
+					publish(benchmark.run(algorithm, module));
+					setProgress(100 * (module * 2 + algorithm + 1) / (modules * 2));
+				}
+			}
+
+			return null;
+
+		}
+
+		protected void process(List<RSLPBenchmark.Result> chunks) {
+
+			for(RSLPBenchmark.Result result : chunks) {
+				results.add(result);
+				tableModel.addRow(new Object[] {
+					Language.getString(result.getAlgorithm() == RSLPBenchmark.AUTOMATA ? "benchmark_automata" : "benchmark_list"),
+					Language.getString(RSLPBenchmark.MODULE_KEYS[result.getModule()]),
+					format(result.getMean()),
+					result.getMedian(),
+					result.getPercentile90(),
+					result.getPercentile99(),
+					format(result.getStandardDeviation()),
+					format(result.getNanosPerWord()),
+					format(result.getBytesPerWord()),
+				});
+			}
+
+		}
+
+		protected void done() {
+
+			worker = null;
+			runButton.setText(Language.getString("benchmark_run_button"));
+			exportButton.setEnabled(results.isEmpty() == false);
+
+			if(isCancelled()) return;
+
+			try {
+				get();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch(ExecutionException e) {
+				JOptionPane.showMessageDialog(RSLPBenchmarkDialog.this, e.getCause().toString(),
+					Language.getString("benchmark_title"), JOptionPane.ERROR_MESSAGE);
+			}
+
+		}
+
+	}
+
+}
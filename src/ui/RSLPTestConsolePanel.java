@@ -3,14 +3,28 @@ package ui;
 import java.awt.Color;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
+import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.border.TitledBorder;
 
 import stemmer.rslp.RSLPSuffixStrippingRules;
@@ -30,8 +44,40 @@ public class RSLPTestConsolePanel extends JPanel {
 	
 	private JLabel listExecutionTime;
 	
+	private JLabel automataFormattingTime;
+	
+	private JLabel listFormattingTime;
+	
 	private JComboBox<String> actionSelector;
 	
+	private JButton executeButton;
+	
+	private JProgressBar progressBar;
+	
+	//number of words processed (and shown) at a time, so the results appear while the algorithms run
+	private static final int CHUNK_SIZE = 5000;
+	
+	//the execution in progress, null when the algorithms are not running
+	private RSLPTestWorker worker;
+	
+	//sum of the execution times of the chunks already shown
+	private long automataTime;
+	
+	private long listTime;
+	
+	private long automataFormatting;
+	
+	private long listFormatting;
+	
+	//runs the list-based algorithm while the worker runs the automata-based algorithm
+	private final ExecutorService listExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "RSLPListTester");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+	
 	public RSLPTestConsolePanel() {
 
 		setLayout(null);
@@ -52,12 +98,18 @@ public class RSLPTestConsolePanel extends JPanel {
 		resultLabel.setBounds(13, 575, 510, 20);
 		resultLabel.setBackground(Color.GRAY);
 		resultLabel.setOpaque(true);
+		
+		this.progressBar = new JProgressBar(0, 100);
+		progressBar.setBounds(13, 575, 510, 20);
+		progressBar.setStringPainted(true);
+		progressBar.setVisible(false);
 
 		add(inputPanel);
 		add(actionPanel);
 		add(automataResultPanel);
 		add(listResultPanel);
 		add(resultLabel);
+		add(progressBar);
 		
 	}
 	
@@ -151,27 +203,43 @@ public class RSLPTestConsolePanel extends JPanel {
 		button.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent actionEvent) {
 				
-				RSLPAutomataTester rslpAutomataTest = new RSLPAutomataTester(inputWords.getText());
-				resultWordsAutomata.setText(rslpAutomataTest.runRSLP(actionSelector.getSelectedIndex()));
-				automataExecutionTime.setText(Language.getString("execution_time")+rslpAutomataTest.getExecutionTime()+" ns");
+				//while the algorithms run, the button cancels the execution
+				if(worker != null) {
+					worker.cancel(true);
+					return;
+				}
 				
-				RSLPListTester rslpListTest = new RSLPListTester(inputWords.getText());
-				resultWordsList.setText(rslpListTest.runRSLP(actionSelector.getSelectedIndex()));
-				listExecutionTime.setText(Language.getString("execution_time")+rslpListTest.getExecutionTime()+" ns");
+				resultWordsAutomata.setText("");
+				resultWordsList.setText("");
+				automataTime = 0;
+				listTime = 0;
+				automataFormatting = 0;
+				listFormatting = 0;
+				automataExecutionTime.setText(Language.getString("execution_time"));
+				listExecutionTime.setText(Language.getString("execution_time"));
+				automataFormattingTime.setText(Language.getString("formatting_time"));
+				listFormattingTime.setText(Language.getString("formatting_time"));
 				
-				if(resultWordsAutomata.getText().compareTo(resultWordsList.getText()) == 0) {
-					resultLabel.setText(Language.getString("no_error_on_results"));
-					resultLabel.setBackground(Color.GREEN);
-					resultLabel.setForeground(Color.BLACK);
-				} else {
-					resultLabel.setText(Language.getString("error_on_results"));
-					resultLabel.setBackground(Color.RED);
-					resultLabel.setForeground(Color.WHITE);
-				}
+				resultLabel.setVisible(false);
+				progressBar.setValue(0);
+				progressBar.setVisible(true);
+				executeButton.setText(Language.getString("action_panel_cancel_button"));
+				
+				worker = new RSLPTestWorker(inputWords.getText(), actionSelector.getSelectedIndex());
+				worker.addPropertyChangeListener(new PropertyChangeListener() {
+					public void propertyChange(PropertyChangeEvent event) {
+						//only the current worker moves the progress bar
+						if("progress".equals(event.getPropertyName()) && event.getSource() == worker) {
+							progressBar.setValue((Integer) event.getNewValue());
+						}
+					}
+				});
+				worker.execute();
 				
 			}
 		});
 		
+		this.executeButton = button;
 		panel.add(descriptionLabel);
 		panel.add(this.actionSelector);
 		panel.add(button);
@@ -197,14 +265,18 @@ public class RSLPTestConsolePanel extends JPanel {
 		textArea.setBackground(Color.WHITE);
 		
 		JScrollPane scroll = new JScrollPane(textArea, JScrollPane.VERTICAL_SCROLLBAR_ALWAYS, JScrollPane.HORIZONTAL_SCROLLBAR_ALWAYS);
-		scroll.setBounds(10, 30, 232, 140);
+		scroll.setBounds(10, 30, 232, 120);
 		
 		this.automataExecutionTime = new JLabel(Language.getString("execution_time"));
-		this.automataExecutionTime.setBounds(10, 175, 232, 20);
+		this.automataExecutionTime.setBounds(10, 155, 232, 20);
+		
+		this.automataFormattingTime = new JLabel(Language.getString("formatting_time"));
+		this.automataFormattingTime.setBounds(10, 175, 232, 20);
 		
 		this.resultWordsAutomata = textArea;
 		panel.add(scroll);
 		panel.add(this.automataExecutionTime);
+		panel.add(this.automataFormattingTime);
 		
 		return panel;
 		
@@ -227,19 +299,185 @@ public class RSLPTestConsolePanel extends JPanel {
 		textArea.setBackground(Color.WHITE);
 		
 		JScrollPane scroll = new JScrollPane(textArea, JScrollPane.VERTICAL_SCROLLBAR_ALWAYS, JScrollPane.HORIZONTAL_SCROLLBAR_ALWAYS);
-		scroll.setBounds(10, 30, 227, 140);
+		scroll.setBounds(10, 30, 227, 120);
 		
 		this.listExecutionTime = new JLabel(Language.getString("execution_time"));
-		this.listExecutionTime.setBounds(10, 175, 232, 20);
+		this.listExecutionTime.setBounds(10, 155, 232, 20);
+		
+		this.listFormattingTime = new JLabel(Language.getString("formatting_time"));
+		this.listFormattingTime.setBounds(10, 175, 232, 20);
 		
 		this.resultWordsList = textArea;
 		panel.add(scroll);
 		panel.add(this.listExecutionTime);
+		panel.add(this.listFormattingTime);
 		
 		return panel;
 		
 	}
 	
+	/**
+	 * Asks for a word list file and processes it with both algorithms, using the selected module
+	 */
+	public void openWordList() {
+		
+		JFileChooser chooser = new JFileChooser();
+		if(chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+		
+		new RSLPWordListDialog(SwingUtilities.getWindowAncestor(this), chooser.getSelectedFile(), actionSelector.getSelectedIndex(), listExecutor).setVisible(true);
+		
+	}
+	
+	/**
+	 * Opens the benchmark of the algorithms for the words of the input area
+	 */
+	public void showBenchmark() {
+		new RSLPBenchmarkDialog(SwingUtilities.getWindowAncestor(this), inputWords.getText()).setVisible(true);
+	}
+	
+	private void showResult(String message, Color background, Color foreground) {
+		
+		resultLabel.setText(message);
+		resultLabel.setBackground(background);
+		resultLabel.setForeground(foreground);
+		
+		progressBar.setVisible(false);
+		resultLabel.setVisible(true);
+		executeButton.setText(Language.getString("action_panel_exec_button"));
+		
+	}
+	
+	/**
+	 * Results of both algorithms for a chunk of the input words
+	 */
+	private static final class RSLPTestChunk {
+		
+		private final String automataResult;
+		
+		private final String listResult;
+		
+		private final long automataTime;
+		
+		private final long listTime;
+		
+		private final long automataFormatting;
+		
+		private final long listFormatting;
+		
+		private RSLPTestChunk(RSLPAutomataTester automataTester, String automataResult, RSLPListTester listTester, String listResult) {
+			this.automataResult = automataResult;
+			this.listResult = listResult;
+			this.automataTime = automataTester.getExecutionTime();
+			this.listTime = listTester.getExecutionTime();
+			this.automataFormatting = automataTester.getFormattingTime();
+			this.listFormatting = listTester.getFormattingTime();
+		}
+		
+	}
+	
+	/**
+	 * Runs both algorithms out of the event dispatch thread, a chunk of words at a time. The automata-based algorithm runs in the
+	 * worker thread while the list-based algorithm runs in the list executor, and the results of each chunk are appended to the
+	 * result areas as soon as both are ready. The result of the worker informs if there is no difference between the algorithms.
+	 */
+	private final class RSLPTestWorker extends SwingWorker<Boolean, RSLPTestChunk> {
+		
+		private final String input;
+		
+		private final int module;
+		
+		private RSLPTestWorker(String input, int module) {
+			this.input = input;
+			this.module = module;
+		}
+		
+		protected Boolean doInBackground() throws Exception {
+			
+			String[] words = input.split("\n");
+			boolean equal = true;
+			
+			for(int start=0; start < words.length && isCancelled() == false; start += CHUNK_SIZE) {
+				
+				int end = Math.min(start + CHUNK_SIZE, words.length);
+				String[] chunk = Arrays.copyOfRange(words, start, end);
+				
+				final RSLPListTester rslpListTest = new RSLPListTester(chunk);
+				Future<String> listResult = listExecutor.submit(new Callable<String>() {
+					public String call() {
+						return rslpListTest.runRSLP(module);
+					}
+				});
+				
+				RSLPAutomataTester rslpAutomataTest = new RSLPAutomataTester(chunk);
+				String automataResult = rslpAutomataTest.runRSLP(module);
+				
+				String result;
+				try {
+					result = listResult.get();
+				} catch(InterruptedException e) {
+					listResult.cancel(true);
+					throw e;
+				}
+				
+				equal &= automataResult.equals(result);
+				publish(new RSLPTestChunk(rslpAutomataTest, automataResult, rslpListTest, result));
+				setProgress((int) (100L * end / words.length));
+				
+			}
+			
+			return equal;
+			
+		}
+		
+		protected void process(List<RSLPTestChunk> chunks) {
+			
+			//chunks of a cancelled worker can arrive after a new execution started
+			if(this != worker) return;
+			
+			for(RSLPTestChunk chunk : chunks) {
+				resultWordsAutomata.append(chunk.automataResult);
+				resultWordsList.append(chunk.listResult);
+				automataTime += chunk.automataTime;
+				listTime += chunk.listTime;
+				automataFormatting += chunk.automataFormatting;
+				listFormatting += chunk.listFormatting;
+			}
+			
+			automataExecutionTime.setText(Language.getString("execution_time")+automataTime+" ns");
+			listExecutionTime.setText(Language.getString("execution_time")+listTime+" ns");
+			automataFormattingTime.setText(Language.getString("formatting_time")+automataFormatting+" ns");
+			listFormattingTime.setText(Language.getString("formatting_time")+listFormatting+" ns");
+			
+		}
+		
+		protected void done() {
+			
+			//the panel belongs to a new execution if it started before this worker finished
+			if(this != worker) return;
+			
+			worker = null;
+			
+			if(isCancelled()) {
+				showResult(Language.getString("execution_cancelled"), Color.GRAY, Color.BLACK);
+				return;
+			}
+			
+			try {
+				if(get()) {
+					showResult(Language.getString("no_error_on_results"), Color.GREEN, Color.BLACK);
+				} else {
+					showResult(Language.getString("error_on_results"), Color.RED, Color.WHITE);
+				}
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch(ExecutionException e) {
+				showResult(e.getCause().toString(), Color.RED, Color.WHITE);
+			}
+			
+		}
+		
+	}
+	
 	private String loadSetOfExamples(int module) {
 		
 		String examples = "";
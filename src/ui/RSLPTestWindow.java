@@ -17,6 +17,8 @@ public final class RSLPTestWindow extends JFrame {
 	
 	private JTextArea logArea;
 	
+	private RSLPTestConsolePanel consolePanel;
+	
 	public RSLPTestWindow() {
 		
 		this.mainWindow = this;
@@ -27,9 +29,11 @@ public final class RSLPTestWindow extends JFrame {
 		setLocationRelativeTo(null);
 		setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		
+		this.consolePanel = new RSLPTestConsolePanel();
+		
 		setJMenuBar(generateMenuBar());
 		
-		add(new RSLPTestConsolePanel());
+		add(consolePanel);
 		
 		setVisible(true);
 	}
@@ -38,6 +42,24 @@ public final class RSLPTestWindow extends JFrame {
 		
 		JMenuBar bar = new JMenuBar();
 		
+		JMenu toolsMenu = new JMenu(Language.getString("menu_tools"));
+		
+		JMenuItem wordList = new JMenuItem(Language.getString("menu_open_word_list"));
+		wordList.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent e) {
+				consolePanel.openWordList();
+			}
+		});
+		toolsMenu.add(wordList);
+		
+		JMenuItem benchmark = new JMenuItem(Language.getString("menu_benchmark"));
+		benchmark.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent e) {
+				consolePanel.showBenchmark();
+			}
+		});
+		toolsMenu.add(benchmark);
+		
 		JMenu helpMenu = new JMenu(Language.getString("menu_help"));
 		
 		JMenu languageMenu = new JMenu(Language.getString("menu_language"));
@@ -67,6 +89,7 @@ public final class RSLPTestWindow extends JFrame {
 		languageMenu.add(languagePT);
 		
 		helpMenu.add(languageMenu);
+		bar.add(toolsMenu);
 		bar.add(helpMenu);
 		
 		return bar;
@@ -0,0 +1,373 @@
+package ui;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JProgressBar;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+
+import ui.i18n.Language;
+
+/**
+ * Processes a word list file (UTF-8, one word per line) with both algorithms. The file is read as a stream, a chunk of words at a
+ * time, so the whole file is never held as a single String, and the results are shown in a table that renders only the visible rows.
+ * The differences between the algorithms are found while the chunks arrive.
+ */
+public class RSLPWordListDialog extends JDialog {
+
+	private static final long serialVersionUID = 1L;
+
+	//number of words read and processed at a time
+	private static final int CHUNK_SIZE = 10000;
+
+	private ExecutorService listExecutor;
+
+	private RSLPResultTableModel tableModel = new RSLPResultTableModel();
+
+	private JTable table;
+
+	private JLabel summaryLabel;
+
+	private JProgressBar progressBar;
+
+	private RSLPWordListWorker worker;
+
+	/**
+	 * @param owner Window of the console
+	 * @param file Word list to be processed
+	 * @param module One of the module constants of the testers
+	 * @param listExecutor Executor where the list-based algorithm runs while the worker runs the automata-based algorithm
+	 */
+	public RSLPWordListDialog(Window owner, File file, int module, ExecutorService listExecutor) {
+
+		super(owner, Language.getString("word_list_title")+" - "+file.getName());
+
+		this.listExecutor = listExecutor;
+
+		setSize(640, 520);
+		setResizable(false);
+		setLocationRelativeTo(owner);
+		setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+		setLayout(null);
+
+		this.table = new JTable(tableModel);
+		this.table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		this.table.setDefaultRenderer(Object.class, new DefaultTableCellRenderer() {
+			public Component getTableCellRendererComponent(JTable table, Object value, boolean selected, boolean focused, int row, int column) {
+				Component cell = super.getTableCellRendererComponent(table, value, selected, focused, row, column);
+				if(selected == false) {
+					cell.setBackground(tableModel.isMismatch(row) ? Color.PINK : Color.WHITE);
+				}
+				return cell;
+			}
+		});
+
+		JScrollPane scroll = new JScrollPane(this.table);
+		scroll.setBounds(10, 10, 615, 390);
+
+		this.summaryLabel = new JLabel();
+		this.summaryLabel.setBounds(10, 410, 440, 30);
+
+		JButton nextMismatch = new JButton(Language.getString("word_list_next_mismatch"));
+		nextMismatch.setBounds(460, 410, 165, 30);
+		nextMismatch.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent actionEvent) {
+				showNextMismatch();
+			}
+		});
+
+		this.progressBar = new JProgressBar(0, 100);
+		this.progressBar.setBounds(10, 450, 615, 20);
+		this.progressBar.setStringPainted(true);
+
+		add(scroll);
+		add(this.summaryLabel);
+		add(nextMismatch);
+		add(this.progressBar);
+
+		updateSummary();
+
+		this.worker = new RSLPWordListWorker(file, module);
+		this.worker.addPropertyChangeListener(new PropertyChangeListener() {
+			public void propertyChange(PropertyChangeEvent event) {
+				if("progress".equals(event.getPropertyName())) {
+					progressBar.setValue((Integer) event.getNewValue());
+				}
+			}
+		});
+		this.worker.execute();
+
+	}
+
+	public void dispose() {
+		if(worker != null) {
+			worker.cancel(true);
+		}
+		super.dispose();
+	}
+
+	/**
+	 * Selects the first difference after the selected row (starting again from the first row after the last one)
+	 */
+	private void showNextMismatch() {
+
+		int row = tableModel.nextMismatch(table.getSelectedRow() + 1);
+		if(row < 0) {
+			Toolkit.getDefaultToolkit().beep();
+			return;
+		}
+
+		table.setRowSelectionInterval(row, row);
+		table.scrollRectToVisible(table.getCellRect(row, 0, true));
+
+	}
+
+	private void updateSummary() {
+		summaryLabel.setText(Language.getString("word_list_words")+tableModel.getRowCount()+"    "
+			+Language.getString("word_list_mismatches")+tableModel.getMismatches());
+	}
+
+	/**
+	 * Words of the file and the results of both algorithms. Only the rows shown by the table are read, so the model can hold
+	 * millions of words.
+	 */
+	private static final class RSLPResultTableModel extends AbstractTableModel {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String[] columns = {
+			Language.getString("word_list_word"),
+			Language.getString("word_list_automata"),
+			Language.getString("word_list_list"),
+			Language.getString("word_list_match"),
+		};
+
+		private final List<String> words = new ArrayList<String>();
+
+		private final List<String> automataStems = new ArrayList<String>();
+
+		private final List<String> listStems = new ArrayList<String>();
+
+		//rows where the algorithms give different results
+		private final BitSet mismatches = new BitSet();
+
+		private int mismatchCount;
+
+		/**
+		 * Appends the results of a chunk of words, comparing the results of the algorithms
+		 */
+		private void addRows(String[] chunk, String[] automataResult, String[] listResult) {
+
+			int first = words.size();
+
+			for(int i=0; i < chunk.length; i++) {
+				words.add(chunk[i]);
+				automataStems.add(automataResult[i]);
+				listStems.add(listResult[i]);
+				if(automataResult[i].equals(listResult[i]) == false) {
+					mismatches.set(first + i);
+					mismatchCount++;
+				}
+			}
+
+			if(chunk.length > 0) {
+				fireTableRowsInserted(first, words.size() - 1);
+			}
+
+		}
+
+		private boolean isMismatch(int row) {
+			return mismatches.get(row);
+		}
+
+		private int getMismatches() {
+			return mismatchCount;
+		}
+
+		/**
+		 * @return The first difference at or after the given row, the first difference of the table if there is none after it,
+		 * or -1 if there is no difference
+		 */
+		private int nextMismatch(int row) {
+			int next = mismatches.nextSetBit(row);
+			return next >= 0 ? next : mismatches.nextSetBit(0);
+		}
+
+		public int getRowCount() {
+			return words.size();
+		}
+
+		public int getColumnCount() {
+			return columns.length;
+		}
+
+		public String getColumnName(int column) {
+			return columns[column];
+		}
+
+		public Class<?> getColumnClass(int column) {
+			return column == 3 ? Boolean.class : String.class;
+		}
+
+		public Object getValueAt(int row, int column) {
+			switch(column) {
+			case 0:
+				return words.get(row);
+			case 1:
+				return automataStems.get(row);
+			case 2:
+				return listStems.get(row);
+			default:
+				return mismatches.get(row) == false;
+			}
+		}
+
+	}
+
+	/**
+	 * Results of both algorithms for a chunk of words of the file
+	 */
+	private static final class RSLPWordListChunk {
+
+		private final String[] words;
+
+		private final String[] automataResult;
+
+		private final String[] listResult;
+
+		private RSLPWordListChunk(String[] words, String[] automataResult, String[] listResult) {
+			this.words = words;
+			this.automataResult = automataResult;
+			this.listResult = listResult;
+		}
+
+	}
+
+	/**
+	 * Reads the file a chunk at a time and runs both algorithms for each chunk
+	 */
+	private final class RSLPWordListWorker extends SwingWorker<Void, RSLPWordListChunk> {
+
+		private final File file;
+
+		private final int module;
+
+		private RSLPWordListWorker(File file, int module) {
+			this.file = file;
+			this.module = module;
+		}
+
+		protected Void doInBackground() throws Exception {
+
+			FileInputStream input = new FileInputStream(file);
+			try {
+
+				FileChannel channel = input.getChannel();
+				long size = Math.max(channel.size(), 1);
+				BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+
+				List<String> chunk = new ArrayList<String>(CHUNK_SIZE);
+				String line;
+
+				while(isCancelled() == false) {
+
+					line = reader.readLine();
+					if(line != null && line.trim().isEmpty() == false) {
+						chunk.add(line.trim());
+					}
+
+					if(chunk.size() == CHUNK_SIZE || (line == null && chunk.isEmpty() == false)) {
+						stemChunk(chunk.toArray(new String[chunk.size()]));
+						chunk.clear();
+						setProgress((int) Math.min(100 * channel.position() / size, 100));
+					}
+
+					if(line == null) break;
+
+				}
+
+			} finally {
+				input.close();
+			}
+
+			return null;
+
+		}
+
+		private void stemChunk(String[] words) throws Exception {
+
+			final RSLPListTester rslpListTest = new RSLPListTester(words);
+			Future<String[]> listResult = listExecutor.submit(new Callable<String[]>() {
+				public String[] call() {
+					return rslpListTest.stem(module);
+				}
+			});
+
+			String[] automataResult = new RSLPAutomataTester(words).stem(module);
+
+			try {
+				publish(new RSLPWordListChunk(words, automataResult, listResult.get()));
+			} catch(InterruptedException e) {
+				listResult.cancel(true);
+				throw e;
+			}
+
+		}
+
+		protected void process(List<RSLPWordListChunk> chunks) {
+			for(RSLPWordListChunk chunk : chunks) {
+				tableModel.addRows(chunk.words, chunk.automataResult, chunk.listResult);
+			}
+			updateSummary();
+		}
+
+		protected void done() {
+
+			worker = null;
+			progressBar.setValue(100);
+
+			if(isCancelled()) return;
+
+			try {
+				get();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch(ExecutionException e) {
+				JOptionPane.showMessageDialog(RSLPWordListDialog.this, Language.getString("word_list_read_error")+"\n"+e.getCause(),
+					getTitle(), JOptionPane.ERROR_MESSAGE);
+			}
+
+		}
+
+	}
+
+}